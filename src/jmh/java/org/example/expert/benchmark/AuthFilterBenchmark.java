@@ -0,0 +1,62 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.example.expert.config.AuthEpochRegistry;
+import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.config.ErrorResponseCatalog;
+import org.example.expert.config.JwtFilter;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 인증된 요청 한 건이 컨트롤러에 도달하기까지의 비용 (JwtFilter + AuthUserArgumentResolver).
+ */
+@State(Scope.Benchmark)
+public class AuthFilterBenchmark {
+
+    private JwtFilter jwtFilter;
+    private AuthUserArgumentResolver argumentResolver;
+    private String bearerToken;
+    private FilterChain noopChain;
+    private ServletWebRequest authenticatedRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtUtil jwtUtil = BenchmarkSupport.jwtUtil();
+        // epoch 가 없는 상태의 레지스트리 (DB 없이 사용)
+        AuthEpochRegistry authEpochRegistry = new AuthEpochRegistry(null);
+        ObjectMapper objectMapper = new ObjectMapper();
+        jwtFilter = new JwtFilter(jwtUtil, authEpochRegistry, new ErrorResponseCatalog(objectMapper), objectMapper);
+        argumentResolver = new AuthUserArgumentResolver();
+        bearerToken = jwtUtil.createToken(1L, "bench@test.com", UserRole.USER, 0);
+        noopChain = (request, response) -> { };
+
+        MockHttpServletRequest request = newRequest();
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), noopChain);
+        authenticatedRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public void doFilter(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = newRequest();
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), noopChain);
+        blackhole.consume(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return argumentResolver.resolveArgument(null, null, authenticatedRequest, null);
+    }
+
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        return request;
+    }
+}
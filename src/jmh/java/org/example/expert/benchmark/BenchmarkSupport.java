@@ -0,0 +1,26 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.JwtUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+final class BenchmarkSupport {
+
+    static final String PLAIN_KEY = "benchmarkSecretKeybenchmarkSecretKeybenchmarkSecretKeybenchmark";
+
+    private BenchmarkSupport() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", encodedKey());
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static String encodedKey() {
+        return Base64.getEncoder().encodeToString(PLAIN_KEY.getBytes(StandardCharsets.UTF_8));
+    }
+}
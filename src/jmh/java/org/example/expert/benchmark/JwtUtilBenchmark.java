@@ -0,0 +1,46 @@
+package org.example.expert.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+
+/**
+ * JwtUtil 의 토큰 발급/검증 비용. parseWithoutCache 는 캐시가 없을 때의 기준값.
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkSupport.jwtUtil();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(BenchmarkSupport.encodedKey())))
+                .build();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "bench@test.com", UserRole.USER, 0));
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "bench@test.com", UserRole.USER, 0);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseWithoutCache() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.PasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * bcrypt 검증 비용. cost 가 1 오를 때마다 두 배씩 느려진다.
+ */
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "10"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder(cost, Runtime.getRuntime().availableProcessors(), 1024);
+        encodedPassword = passwordEncoder.encode("Benchmark1234");
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("Benchmark1234", encodedPassword);
+    }
+}
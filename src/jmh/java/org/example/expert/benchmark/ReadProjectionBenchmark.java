@@ -0,0 +1,195 @@
+package org.example.expert.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoRepositoryCustomImpl;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회 API 의 엔티티 조회 + DTO 변환(entity*) 과 constructor expression projection(projection*) 비교.
+ * H2(MySQL 모드) 위에 Hibernate + Spring Data JPA 를 직접 구성해 측정하며, gc 프로파일러의 gc.alloc.rate.norm 으로 연산 당 할당량을 비교한다.
+ * 서비스는 projection 만 쓰므로, 비교 대상인 엔티티 조회 쿼리는 repository 가 아닌 여기서 JPQL 로 실행한다.
+ */
+@State(Scope.Benchmark)
+public class ReadProjectionBenchmark {
+
+    private static final int TODO_COUNT = 500;
+    private static final int COMMENT_COUNT = 100;
+    private static final int MANAGER_COUNT = 20;
+    private static final PageRequest PAGE = PageRequest.of(0, 50);
+    private static final TodoFilter FILTER = new TodoFilter("Sunny", LocalDate.now().minusDays(1), LocalDate.now(), null);
+
+    private static final String ENTITY_TODO_PAGE = "SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC, t.id DESC";
+    private static final String ENTITY_COMMENTS = "SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId";
+    private static final String ENTITY_MANAGERS = "SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId";
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private ManagerRepository managerRepository;
+    private Long todoId;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션 컨텍스트 없이 JPA 스택만 구성 (스케줄러, 외부 API 호출 제외)
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("org.example.expert.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        todoRepository = repositoryFactory.getRepository(TodoRepository.class,
+                RepositoryFragments.just(new TodoRepositoryCustomImpl(entityManager)));
+        commentRepository = repositoryFactory.getRepository(CommentRepository.class);
+        managerRepository = repositoryFactory.getRepository(ManagerRepository.class);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        todoId = transaction.execute(status -> seed(repositoryFactory.getRepository(UserRepository.class)));
+
+        // 서비스와 같은 readOnly 트랜잭션
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> entityTodoPage() {
+        return readOnlyTransaction.execute(status -> {
+            List<TodoResponse> content = entityManager.createQuery(ENTITY_TODO_PAGE, Todo.class)
+                    .setFirstResult((int) PAGE.getOffset())
+                    .setMaxResults(PAGE.getPageSize())
+                    .getResultStream()
+                    .map(todo -> new TodoResponse(
+                            todo.getId(),
+                            todo.getTitle(),
+                            todo.getContents(),
+                            todo.getWeather(),
+                            new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                            todo.getCreatedAt(),
+                            todo.getModifiedAt()
+                    ))
+                    .toList();
+            long total = entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult();
+            return new PageImpl<>(content, PAGE, total);
+        });
+    }
+
+    // 서비스와 같이 전체 개수는 목록 검증자(findVersion)에서 함께 읽음
+    @Benchmark
+    public Page<TodoResponse> projectionTodoPage() {
+        return readOnlyTransaction.execute(status -> new PageImpl<>(
+                todoRepository.findTodoResponses(PAGE), PAGE, todoRepository.findVersion(TodoFilter.empty()).getCount()));
+    }
+
+    // 필터 조회 (동적 JPQL, 날씨 + 수정일 범위)
+    @Benchmark
+    public Page<TodoResponse> projectionFilteredTodoPage() {
+        return readOnlyTransaction.execute(status -> new PageImpl<>(
+                todoRepository.findTodoResponses(FILTER, PAGE), PAGE, todoRepository.findVersion(FILTER).getCount()));
+    }
+
+    @Benchmark
+    public List<CommentResponse> entityComments() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(ENTITY_COMMENTS, Comment.class)
+                .setParameter("todoId", todoId)
+                .getResultStream()
+                .map(comment -> new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<CommentResponse> projectionComments() {
+        return readOnlyTransaction.execute(status -> commentRepository.findResponsesByTodoId(todoId));
+    }
+
+    @Benchmark
+    public List<ManagerResponse> entityManagers() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(ENTITY_MANAGERS, Manager.class)
+                .setParameter("todoId", todoId)
+                .getResultStream()
+                .map(manager -> new ManagerResponse(
+                        manager.getId(),
+                        new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<ManagerResponse> projectionManagers() {
+        return readOnlyTransaction.execute(status -> managerRepository.findResponsesByTodoId(todoId));
+    }
+
+    private Long seed(UserRepository userRepository) {
+        User owner = userRepository.save(new User("owner@bench.com", "password", UserRole.USER));
+
+        List<Todo> todos = new ArrayList<>(TODO_COUNT);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", owner)); // 작성자가 담당자로 함께 저장됨
+        }
+        todoRepository.saveAll(todos);
+        Todo target = todos.get(0);
+
+        List<Comment> comments = new ArrayList<>(COMMENT_COUNT);
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            comments.add(new Comment("comment" + i, owner, target));
+        }
+        commentRepository.saveAll(comments);
+
+        List<Manager> managers = new ArrayList<>(MANAGER_COUNT);
+        for (int i = 0; i < MANAGER_COUNT; i++) {
+            User managerUser = userRepository.save(new User("manager" + i + "@bench.com", "password", UserRole.USER));
+            managers.add(new Manager(managerUser, target));
+        }
+        managerRepository.saveAll(managers);
+
+        return target.getId();
+    }
+}
@@ -7,6 +7,8 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.config.JwtFilter;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -37,7 +39,8 @@ public class AdminApiLoggingAspect {
         HttpServletRequest request = currentRequest();           // 현재 요청 받아오기
         ContentCachingRequestWrapper requestWrapper = (ContentCachingRequestWrapper)request;
 
-        Long userId = (Long) request.getAttribute("userId");  // 요청한 사용자 Id
+        AuthUser authUser = (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+        Long userId = authUser != null ? authUser.getId() : null;  // 요청한 사용자 Id
         String requestUrl = request.getRequestURI();            // 요청 url
         LocalDateTime requestTime = LocalDateTime.now();        // 요청 시각
         String requestBody = requestWrapper.getContentAsString();
@@ -0,0 +1,73 @@
+package org.example.expert.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패가 기준을 넘으면 일정 시간 동안 호출을 막는 간단한 서킷 브레이커.
+ * open 시간이 지나면 한 번의 시험 호출(half-open)만 허용하고, 그 결과로 닫거나 다시 연다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean(false);
+    private volatile long openedAt = -1; // -1 이면 닫힌 상태
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold 는 1 이상이어야 합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 호출해도 되면 true. half-open 상태에서는 시험 호출 하나만 통과시킨다.
+     */
+    public boolean tryAcquire() {
+        long opened = openedAt;
+        if (opened < 0) {
+            return true;
+        }
+        if (clock.getAsLong() - opened < openMillis) {
+            return false;
+        }
+        return probing.compareAndSet(false, true);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        openedAt = -1;
+        probing.set(false);
+    }
+
+    public void recordFailure() {
+        if (probing.get() || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = clock.getAsLong();
+        }
+        probing.set(false);
+    }
+
+    public State getState() {
+        long opened = openedAt;
+        if (opened < 0) {
+            return State.CLOSED;
+        }
+        return clock.getAsLong() - opened < openMillis ? State.OPEN : State.HALF_OPEN;
+    }
+}
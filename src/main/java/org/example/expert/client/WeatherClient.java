@@ -1,30 +1,161 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URI;
-import java.time.LocalDate;
+import java.time.Clock;
+import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 1년치 날씨 데이터를 MonthDay 로 인덱싱한 테이블에 보관한다.
+ * 요청 경로에서는 메모리 테이블만 조회하고, 외부 API 호출은 스케줄러가 주기적으로 수행한다.
+ * 시작 시 로딩에 실패하면 첫 테이블을 받을 때까지 짧은 간격으로 다시 시도한다.
+ * 서킷 브레이커는 이 반복 재시도를 감싼다: 연속으로 실패하면 open 시간 동안 호출을 건너뛰고, 이후 시험 호출 한 번씩만 보낸다.
+ * 그동안 요청 경로는 외부 API 를 기다리지 않고 바로 fallback 값(없으면 예외)으로 응답한다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final String WEATHER_PATH = "/f-api/weather.json"; // base URI 는 weather.api.base-uri
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final String fallbackWeather; // 날씨를 알 수 없을 때 getTodayWeather 가 대신 반환할 값 (비어 있으면 예외)
+    private final Clock clock;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    private volatile String[] weatherTable; // 윤년 기준 day-of-year - 1 -> 날씨, 로딩 전에는 null
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    @Autowired
+    public WeatherClient(
+            RestTemplate weatherRestTemplate,
+            CircuitBreaker weatherCircuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${weather.fallback:}") String fallbackWeather
+    ) {
+        this(weatherRestTemplate, weatherCircuitBreaker, meterRegistry, fallbackWeather, Clock.systemDefaultZone());
+    }
+
+    WeatherClient(
+            RestTemplate restTemplate,
+            CircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry,
+            String fallbackWeather,
+            Clock clock
+    ) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.fallbackWeather = fallbackWeather;
+        this.clock = clock;
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        this.successTimer = Timer.builder("weather.api.requests")
+                .description("날씨 API 호출 시간")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("weather.api.requests")
+                .description("날씨 API 호출 시간")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        // 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+        Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("날씨 API 서킷 브레이커 상태")
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
+        Optional<String> weather = findTodayWeather();
+        if (weather.isEmpty() && StringUtils.hasText(fallbackWeather)) {
+            return fallbackWeather;
+        }
+        return weather
+                .orElseThrow(() -> new ServerException(weatherTable == null
+                        ? (circuitBreaker.getState() == CircuitBreaker.State.OPEN
+                                ? "날씨 API 장애로 날씨 데이터가 없습니다."
+                                : "날씨 데이터가 없습니다.")
+                        : "오늘에 해당하는 날씨 데이터를 찾을 수 없습니다."));
+    }
+
+    public Optional<String> findTodayWeather() {
+        return findWeather(MonthDay.now(clock));
+    }
+
+    public Optional<String> findWeather(MonthDay monthDay) {
+        String[] table = weatherTable;
+        if (table == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(table[indexOf(monthDay)]);
+    }
+
+    /**
+     * 첫 테이블을 받기 전까지 initial-retry-interval 간격으로 다시 시도한다.
+     * 로딩된 뒤에는 아무것도 하지 않고 refresh-interval 주기의 갱신만 남는다.
+     */
+    @Scheduled(initialDelayString = "${weather.initial-retry-interval:PT10S}",
+            fixedDelayString = "${weather.initial-retry-interval:PT10S}")
+    public void retryUntilLoaded() {
+        if (weatherTable == null) {
+            refresh();
+        }
+    }
+
+    /**
+     * 날씨 테이블을 다시 받아온다. 이미 갱신 중이면 건너뛰고, 실패하면 기존 테이블을 그대로 사용한다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${weather.refresh-interval:PT6H}")
+    public void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                log.warn("날씨 API 서킷이 열려 있어 갱신을 건너뜁니다.");
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                String[] table = loadTable();
+                successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                circuitBreaker.recordSuccess();
+                weatherTable = table;
+                log.info("날씨 테이블 갱신 완료");
+            } catch (Exception e) {
+                failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                circuitBreaker.recordFailure();
+                log.warn("날씨 테이블 갱신 실패, 이전 데이터를 계속 사용합니다: {}", e.getMessage());
+            }
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private String[] loadTable() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(WEATHER_PATH, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -35,28 +166,22 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        String[] table = new String[DAYS_IN_LEAP_YEAR];
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() == null) {
+                continue;
+            }
+            try {
+                table[indexOf(MonthDay.parse(weatherDto.getDate(), DATE_FORMATTER))] = weatherDto.getWeather();
+            } catch (DateTimeParseException e) {
+                log.warn("잘못된 날씨 데이터 무시: date={}", weatherDto.getDate());
             }
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
-    }
-
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
+        return table;
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    // 2월 29일까지 담을 수 있도록 윤년(2000년) 기준으로 인덱스 계산
+    private static int indexOf(MonthDay monthDay) {
+        return monthDay.atYear(2000).getDayOfYear() - 1;
     }
 }
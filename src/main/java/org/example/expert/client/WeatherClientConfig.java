@@ -0,0 +1,70 @@
+package org.example.expert.client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class WeatherClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient weatherHttpClient(
+            @Value("${weather.http.connect-timeout:PT1S}") Duration connectTimeout,
+            @Value("${weather.http.read-timeout:PT2S}") Duration readTimeout,
+            @Value("${weather.http.connection-request-timeout:PT0.5S}") Duration connectionRequestTimeout,
+            @Value("${weather.http.max-connections:10}") int maxConnections
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 호출 대상이 하나뿐이므로 전체 = route 당
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout)) // 풀 대기 시간
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate weatherRestTemplate(
+            RestTemplateBuilder builder,
+            CloseableHttpClient weatherHttpClient,
+            @Value("${weather.api.base-uri:https://f-api.github.io}") String baseUri
+    ) {
+        return builder
+                .rootUri(baseUri)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(weatherHttpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker weatherCircuitBreaker(
+            @Value("${weather.circuit-breaker.failure-threshold:3}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:PT1M}") Duration openDuration
+    ) {
+        return new CircuitBreaker(failureThreshold, openDuration);
+    }
+}
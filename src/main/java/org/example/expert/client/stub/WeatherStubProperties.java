@@ -0,0 +1,37 @@
+package org.example.expert.client.stub;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * weather-stub 프로필에서 띄우는 로컬 날씨 API 의 동작 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "weather.stub")
+public class WeatherStubProperties {
+
+    private int port = 18080; // 0 이면 임의 포트
+
+    private LatencyDistribution latencyDistribution = LatencyDistribution.FIXED;
+    private Duration latencyMean = Duration.ZERO; // 분포의 평균 지연
+    private double latencySigma = 1.0;            // LOG_NORMAL 꼬리 두께
+    private Duration latencyMax = Duration.ofSeconds(10);
+
+    private double errorRate = 0.0; // 0 ~ 1, errorStatus 로 응답하는 비율
+    private int errorStatus = 503;
+
+    private double slowBodyRate = 0.0; // 0 ~ 1, 본문을 나눠서 천천히 보내는 비율
+    private int slowBodyChunks = 10;
+    private Duration slowBodyChunkDelay = Duration.ofMillis(200);
+
+    public enum LatencyDistribution {
+        FIXED,       // 항상 평균값
+        UNIFORM,     // 0 ~ 2 * 평균
+        EXPONENTIAL, // 평균이 latencyMean 인 지수 분포
+        LOG_NORMAL   // 평균이 latencyMean 인 로그 정규 분포 (긴 꼬리)
+    }
+}
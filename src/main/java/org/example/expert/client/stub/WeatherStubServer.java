@@ -0,0 +1,148 @@
+package org.example.expert.client.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.client.stub.WeatherStubProperties.LatencyDistribution;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 로컬 날씨 API. 실제 API 와 같은 WeatherDto[] 형식을 응답하고,
+ * 설정에 따라 지연, 오류 응답, 느린 본문 전송을 섞는다.
+ */
+@Slf4j
+@Component
+@Profile("weather-stub")
+@EnableConfigurationProperties(WeatherStubProperties.class)
+public class WeatherStubServer {
+
+    private static final String PATH = "/f-api/weather.json";
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy", "Foggy"};
+
+    private final WeatherStubProperties properties;
+    private final byte[] body;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public WeatherStubServer(WeatherStubProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.body = createBody(objectMapper);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        executor = Executors.newFixedThreadPool(64);
+        server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 0);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("날씨 stub 서버 시작: port={}, latency={} {}, errorRate={}, slowBodyRate={}",
+                getPort(), properties.getLatencyDistribution(), properties.getLatencyMean(),
+                properties.getErrorRate(), properties.getSlowBodyRate());
+    }
+
+    @PreDestroy
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            sleep(sampleLatencyMillis(random));
+
+            if (random.nextDouble() < properties.getErrorRate()) {
+                byte[] error = "{\"message\":\"stub error\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(properties.getErrorStatus(), error.length);
+                exchange.getResponseBody().write(error);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            OutputStream out = exchange.getResponseBody();
+            if (random.nextDouble() < properties.getSlowBodyRate()) {
+                writeSlowly(out);
+            } else {
+                out.write(body);
+            }
+        }
+    }
+
+    // 본문을 여러 조각으로 나눠 조각 사이마다 쉬면서 전송 (read timeout 확인용)
+    private void writeSlowly(OutputStream out) throws IOException {
+        int chunks = Math.max(1, properties.getSlowBodyChunks());
+        int chunkSize = (body.length + chunks - 1) / chunks;
+        for (int offset = 0; offset < body.length; offset += chunkSize) {
+            out.write(body, offset, Math.min(chunkSize, body.length - offset));
+            out.flush();
+            sleep(properties.getSlowBodyChunkDelay().toMillis());
+        }
+    }
+
+    private long sampleLatencyMillis(ThreadLocalRandom random) {
+        double mean = properties.getLatencyMean().toMillis();
+        double sigma = properties.getLatencySigma();
+        LatencyDistribution distribution = properties.getLatencyDistribution();
+
+        double latency = switch (distribution) {
+            case FIXED -> mean;
+            case UNIFORM -> random.nextDouble() * 2 * mean;
+            case EXPONENTIAL -> -mean * Math.log(1 - random.nextDouble());
+            // 평균이 mean 이 되도록 mu = ln(mean) - sigma^2 / 2
+            case LOG_NORMAL -> mean * Math.exp(sigma * random.nextGaussian() - sigma * sigma / 2);
+        };
+        return Math.min((long) latency, properties.getLatencyMax().toMillis());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 윤년 기준 366 일치 날씨를 한 번만 만들어 재사용
+    private static byte[] createBody(ObjectMapper objectMapper) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        List<WeatherDto> weathers = new ArrayList<>(366);
+        for (LocalDate date = LocalDate.of(2000, 1, 1); date.getYear() == 2000; date = date.plusDays(1)) {
+            weathers.add(new WeatherDto(date.format(formatter), WEATHERS[date.getDayOfYear() % WEATHERS.length]));
+        }
+        try {
+            return objectMapper.writeValueAsBytes(weathers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("stub 날씨 데이터를 만들 수 없습니다.", e);
+        }
+    }
+}
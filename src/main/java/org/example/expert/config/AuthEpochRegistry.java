@@ -0,0 +1,156 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.dto.UserAuthEpochDto;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 유저별 인증 epoch 를 메모리에 보관한다.
+ * 역할/비밀번호가 바뀌면 epoch 가 올라가고, 그보다 낮은 epoch 로 발급된 토큰은 JwtFilter 에서 거부된다.
+ * epoch 가 0 인 유저는 저장하지 않으므로 실제로 변경 이력이 있는 유저만 메모리를 차지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthEpochRegistry {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final UserRepository userRepository;
+
+    // userId -> epoch 를 담는 open addressing 테이블 (key 0 은 빈 슬롯)
+    private final StampedLock lock = new StampedLock();
+    private Table table = new Table(INITIAL_CAPACITY);
+    private int size;
+
+    @PostConstruct
+    public void warmUp() {
+        int count = 0;
+        for (UserAuthEpochDto userAuthEpoch : userRepository.findAllWithAuthEpoch()) {
+            update(userAuthEpoch.getUserId(), userAuthEpoch.getAuthEpoch());
+            count++;
+        }
+        log.info("인증 epoch 로딩 완료: users={}", count);
+    }
+
+    public int currentEpoch(long userId) {
+        if (userId <= 0) {
+            return 0;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        int epoch = table.get(userId);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                epoch = table.get(userId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return epoch;
+    }
+
+    public void update(long userId, int epoch) {
+        if (userId <= 0 || epoch <= 0) {
+            return;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2 > table.keys.length) {
+                table = table.resize();
+            }
+            if (table.putMax(userId, epoch)) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 epoch 를 반영한다.
+     * 롤백된 변경이 메모리에만 남아 정상 토큰까지 거부하는 일을 막기 위함.
+     */
+    public void updateAfterCommit(long userId, int epoch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(userId, epoch);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(userId, epoch);
+            }
+        });
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+        private final int[] values;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new int[capacity];
+        }
+
+        private int get(long key) {
+            int mask = keys.length - 1;
+            int index = hash(key) & mask;
+            while (true) {
+                long current = keys[index];
+                if (current == key) {
+                    return values[index];
+                }
+                if (current == 0) {
+                    return 0;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        // 새 key 가 추가되면 true, epoch 는 더 큰 값만 반영
+        private boolean putMax(long key, int value) {
+            int mask = keys.length - 1;
+            int index = hash(key) & mask;
+            while (true) {
+                long current = keys[index];
+                if (current == key) {
+                    values[index] = Math.max(values[index], value);
+                    return false;
+                }
+                if (current == 0) {
+                    values[index] = value;
+                    keys[index] = key;
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private Table resize() {
+            Table resized = new Table(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    resized.putMax(keys[i], values[i]);
+                }
+            }
+            return resized;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 자주 나가는 고정 에러 응답 본문을 시작 시점에 UTF-8 JSON 으로 한 번만 직렬화해 둔다.
+ * 등록되지 않은 (동적인) 메시지는 null 을 반환하므로 호출하는 쪽에서 기존 방식으로 직렬화한다.
+ */
+@Component
+public class ErrorResponseCatalog {
+
+    private final Map<String, byte[]> bodies = new HashMap<>();
+
+    public ErrorResponseCatalog(ObjectMapper objectMapper) {
+        // JwtFilter
+        register(objectMapper, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+        register(objectMapper, HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+        register(objectMapper, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+        register(objectMapper, HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+
+        // GlobalExceptionHandler
+        register(objectMapper, HttpStatus.UNAUTHORIZED, "잘못된 비밀번호입니다.");
+        register(objectMapper, HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
+        register(objectMapper, HttpStatus.BAD_REQUEST, "가입되지 않은 유저입니다.");
+        register(objectMapper, HttpStatus.BAD_REQUEST, "User not found");
+        register(objectMapper, HttpStatus.BAD_REQUEST, "Todo not found");
+        register(objectMapper, HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        register(objectMapper, HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 미리 직렬화된 본문. 등록되지 않은 조합이면 null.
+     */
+    public byte[] find(HttpStatus status, String message) {
+        return bodies.get(key(status, message));
+    }
+
+    private void register(ObjectMapper objectMapper, HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", message);
+
+        try {
+            bodies.put(key(status, message), objectMapper.writeValueAsBytes(errorResponse));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 직렬화 실패: " + message, e);
+        }
+    }
+
+    private static String key(HttpStatus status, String message) {
+        return status.value() + ":" + message;
+    }
+}
@@ -11,12 +11,14 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final AuthEpochRegistry authEpochRegistry;
+    private final ErrorResponseCatalog errorResponseCatalog;
     private final ObjectMapper objectMapper;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil, objectMapper));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, authEpochRegistry, errorResponseCatalog, objectMapper));
         registrationBean.addUrlPatterns("/*");
 
         return registrationBean;
@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
 
@@ -21,7 +22,12 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    // 요청 당 한 번 만들어진 AuthUser 를 담는 request attribute 이름
+    public static final String AUTH_USER_ATTRIBUTE = AuthUser.class.getName();
+
     private final JwtUtil jwtUtil;
+    private final AuthEpochRegistry authEpochRegistry;
+    private final ErrorResponseCatalog errorResponseCatalog;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -55,14 +61,26 @@ public class JwtFilter implements Filter {
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            AuthUser authUser = new AuthUser(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    UserRole.valueOf(claims.get("userRole", String.class))
+            );
+
+            // 역할/비밀번호 변경 이전에 발급된 토큰은 만료 전이라도 거부 (DB 조회 없이 메모리에서 확인)
+            Integer tokenEpoch = claims.get("authEpoch", Integer.class);
+            int currentEpoch = authEpochRegistry.currentEpoch(authUser.getId());
+            if ((tokenEpoch == null ? 0 : tokenEpoch) < currentEpoch) {
+                log.info("폐기된 JWT: userId={}, tokenEpoch={}, currentEpoch={}, URI={}",
+                        authUser.getId(), tokenEpoch, currentEpoch, url);
+                sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+                return;
+            }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
-            if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
-                log.warn("권한 부족: userId={}, role={}, URI={}", claims.getSubject(), userRole, url);
+            if (url.startsWith("/admin") && !UserRole.ADMIN.equals(authUser.getUserRole())) {
+                log.warn("권한 부족: userId={}, role={}, URI={}", authUser.getId(), authUser.getUserRole(), url);
                 sendErrorResponse(httpResponse, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
                 return;
             }
@@ -84,6 +102,14 @@ public class JwtFilter implements Filter {
         response.setStatus(status.value());
         response.setContentType("application/json;charset=UTF-8");
 
+        // 고정 메시지는 미리 직렬화된 바이트를 그대로 씀
+        byte[] body = errorResponseCatalog.find(status, message);
+        if (body != null) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return;
+        }
+
         Map<String, Object> errorResponse = new HashMap<>();
         errorResponse.put("status", status.name());
         errorResponse.put("code", status.value());
@@ -1,9 +1,14 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
@@ -12,29 +17,50 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j(topic = "JwtUtil")
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final long TOKEN_TIME = 15 * 60 * 1000L; // 15분 (갱신은 /auth/refresh)
+    private static final int CLAIMS_CACHE_MAX_SIZE = 10_000; // 검증된 claims 캐시 최대 개수
+    private static final long CLAIMS_CACHE_EVICTION_INTERVAL = 1_000L; // 만료 항목 정리 최소 간격 (1초)
+    private static final String CLAIMS_CACHE_NAME = "jwt-claims"; // 메트릭의 cache 태그
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // 토큰 digest -> 검증이 끝난 claims (만료 시각까지만 유효)
+    private final Map<String, VerifiedClaims> claimsCache = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private volatile long nextEvictionAt;
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // parser 는 thread-safe 하므로 한 번만 만들어 재사용
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    public String createToken(Long userId, String email, UserRole userRole) {
+    public String createToken(Long userId, String email, UserRole userRole, int authEpoch) {
         Date date = new Date();
 
         return BEARER_PREFIX +
@@ -42,6 +68,7 @@ public class JwtUtil {
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
+                        .claim("authEpoch", authEpoch)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
@@ -56,10 +83,94 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedClaims cached = claimsCache.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                cacheHits.increment();
+                return cached.claims;
+            }
+            // 만료된 토큰은 캐시에서 제거하고 parser 가 ExpiredJwtException 을 던지도록 함
+            claimsCache.remove(digest, cached);
+        }
+
+        cacheMisses.increment();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        cache(digest, claims, now);
+        return claims;
+    }
+
+    /**
+     * claims 캐시를 micrometer 캐시 메트릭과 같은 이름(cache.gets, cache.size)으로 노출한다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", cacheHits, LongAdder::sum)
+                .description("검증된 JWT claims 캐시 조회")
+                .tags("cache", CLAIMS_CACHE_NAME, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cacheMisses, LongAdder::sum)
+                .description("검증된 JWT claims 캐시 조회")
+                .tags("cache", CLAIMS_CACHE_NAME, "result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", claimsCache, Map::size)
+                .description("검증된 JWT claims 캐시 항목 수")
+                .tag("cache", CLAIMS_CACHE_NAME)
+                .register(registry);
+    }
+
+    public long getClaimsCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public long getClaimsCacheMissCount() {
+        return cacheMisses.sum();
+    }
+
+    public int getClaimsCacheSize() {
+        return claimsCache.size();
+    }
+
+    private void cache(String digest, Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return; // 만료 시각이 없는 토큰은 캐시하지 않음
+        }
+
+        if (claimsCache.size() >= CLAIMS_CACHE_MAX_SIZE) {
+            // 가득 찬 상태에서 miss 마다 전체를 훑지 않도록 정리는 간격을 두고 수행
+            if (now >= nextEvictionAt) {
+                nextEvictionAt = now + CLAIMS_CACHE_EVICTION_INTERVAL;
+                evictExpired(now);
+            }
+            if (claimsCache.size() >= CLAIMS_CACHE_MAX_SIZE) {
+                return; // 가득 차 있으면 캐시 없이 매번 검증
+            }
+        }
+        claimsCache.put(digest, new VerifiedClaims(claims, expiration.getTime()));
+    }
+
+    private void evictExpired(long now) {
+        Iterator<VerifiedClaims> iterator = claimsCache.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+
+    private record VerifiedClaims(Claims claims, long expiresAt) {
     }
 }
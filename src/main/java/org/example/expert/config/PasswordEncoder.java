@@ -1,17 +1,185 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * bcrypt 해싱/검증은 CPU 를 많이 쓰므로 톰캣 요청 스레드가 아닌 전용 워커 풀에서 실행한다.
+ * 풀과 대기열이 모두 차면 바로 503 으로 거절해서 다른 API 까지 느려지지 않도록 한다.
+ * 풀 상태와 해싱 시간은 bcrypt.* 메트릭으로 노출한다.
+ */
+@Slf4j
 @Component
-public class PasswordEncoder {
+public class PasswordEncoder implements MeterBinder {
+
+    private static final long TIMEOUT_MILLIS = 5_000L; // 대기 + 해싱 최대 시간
+
+    private final int cost;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+
+    public PasswordEncoder(
+            @Value("${security.bcrypt.cost:4}") int cost,
+            @Value("${security.bcrypt.pool-size:0}") int poolSize,
+            @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity
+    ) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost 는 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 사이여야 합니다.");
+        }
+        // pool-size 가 0 이면 코어의 절반만 사용 (나머지는 일반 요청 처리용)
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        this.cost = cost;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new WorkerThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
 
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(() -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(() -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    /**
+     * 여러 비밀번호를 같은 워커 풀에서 병렬로 해싱한다. 결과 순서는 입력 순서와 같다.
+     * 대기열을 혼자 채우지 않도록 워커 수만큼씩 나눠 제출하고, 풀이 포화되면 단건과 같이 503 으로 거절한다.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int window = executor.getMaximumPoolSize();
+        List<String> encodedPasswords = new ArrayList<>(rawPasswords.size());
+        List<Future<String>> futures = new ArrayList<>(window);
+        for (int from = 0; from < rawPasswords.size(); from += window) {
+            futures.clear();
+            try {
+                for (String rawPassword : rawPasswords.subList(from, Math.min(from + window, rawPasswords.size()))) {
+                    futures.add(submit(() -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray())));
+                }
+                for (Future<String> future : futures) {
+                    encodedPasswords.add(await(future));
+                }
+            } catch (RuntimeException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+        }
+        return encodedPasswords;
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮으면 true. 로그인 성공 시 점진적으로 재해싱하는 데 사용한다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        // 형식: $2a$04$<salt+hash>
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bcrypt.pool.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱/검증 중인 bcrypt 워커 수")
+                .register(registry);
+        Gauge.builder("bcrypt.pool.queued", executor, pool -> pool.getQueue().size())
+                .description("bcrypt 워커 풀 대기열 길이")
+                .register(registry);
+        FunctionCounter.builder("bcrypt.rejected", rejectedCount, LongAdder::sum)
+                .description("풀 포화 또는 대기 시간 초과로 503 응답한 요청 수")
+                .register(registry);
+        FunctionTimer.builder("bcrypt.hash", this,
+                        encoder -> encoder.completedCount.sum(),
+                        encoder -> encoder.totalHashNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("워커에서 bcrypt 해싱/검증에 걸린 시간 (대기 시간 제외)")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        return await(submit(task));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    totalHashNanos.add(System.nanoTime() - start);
+                    completedCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("bcrypt 워커 풀 포화: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "bcrypt-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
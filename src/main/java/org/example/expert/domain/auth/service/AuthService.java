@@ -5,8 +5,10 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
@@ -14,7 +16,13 @@ import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * bcrypt 해싱/검증은 대기열에서 기다리는 시간까지 길어질 수 있으므로 트랜잭션 밖에서 수행한다.
+ * 트랜잭션은 시작할 때 커넥션을 잡기 때문에, 로그인이 몰려도 커넥션 풀이 해싱 대기에 묶이지 않도록
+ * 조회는 repository 의 짧은 읽기 트랜잭션, 저장은 해싱이 끝난 뒤의 짧은 쓰기 트랜잭션으로 나눈다.
+ */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -22,8 +30,9 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
@@ -34,19 +43,22 @@ public class AuthService {
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
-        User newUser = new User(
-                signupRequest.getEmail(),
-                encodedPassword,
-                userRole
-        );
-        User savedUser = userRepository.save(newUser);
+        // 유저 저장과 refresh token 발급은 한 트랜잭션
+        return transactionTemplate.execute(status -> {
+            User newUser = new User(
+                    signupRequest.getEmail(),
+                    encodedPassword,
+                    userRole
+            );
+            User savedUser = userRepository.save(newUser);
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+            String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getAuthEpoch());
+            String refreshToken = refreshTokenService.issue(savedUser);
 
-        return new SignupResponse(bearerToken);
+            return new SignupResponse(bearerToken, refreshToken);
+        });
     }
 
-    @Transactional(readOnly = true)
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -56,8 +68,33 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        // 설정된 cost 보다 낮은 해시는 로그인 성공 시점에 조금씩 재해싱
+        String rehashedPassword = passwordEncoder.needsRehash(user.getPassword())
+                ? passwordEncoder.encode(signinRequest.getPassword())
+                : null;
+
+        String refreshToken = transactionTemplate.execute(status -> {
+            if (rehashedPassword != null) {
+                // 검증 이후 비밀번호가 바뀌었으면 덮어쓰지 않음
+                userRepository.findById(user.getId())
+                        .filter(current -> current.getPassword().equals(user.getPassword()))
+                        .ifPresent(current -> current.rehashPassword(rehashedPassword));
+            }
+            return refreshTokenService.issue(user);
+        });
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getAuthEpoch());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // 비밀번호 검증 없이 refresh token 조회만으로 access token 을 재발급 (refresh token 은 매번 교체)
+    @Transactional
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        User user = refreshTokenService.consume(tokenRefreshRequest.getRefreshToken());
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getAuthEpoch());
+        String refreshToken = refreshTokenService.issue(user);
 
-        return new SigninResponse(bearerToken);
+        return new TokenRefreshResponse(bearerToken, refreshToken);
     }
 }
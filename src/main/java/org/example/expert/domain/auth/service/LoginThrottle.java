@@ -0,0 +1,56 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 시도를 이메일/IP 별로 세어서, 한도를 넘으면 DB 조회와 bcrypt 검증 전에 거절한다.
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final int SLOTS = 1 << 14;
+
+    private final int emailLimit;
+    private final int ipLimit;
+    private final SlidingWindowCounter emailCounter;
+    private final SlidingWindowCounter ipCounter;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LoginThrottle(
+            @Value("${security.login-throttle.email-limit:10}") int emailLimit,
+            @Value("${security.login-throttle.ip-limit:50}") int ipLimit,
+            @Value("${security.login-throttle.window:PT1M}") Duration window
+    ) {
+        this(emailLimit, ipLimit, window, System::currentTimeMillis);
+    }
+
+    LoginThrottle(int emailLimit, int ipLimit, Duration window, LongSupplier clock) {
+        this.emailLimit = emailLimit;
+        this.ipLimit = ipLimit;
+        this.emailCounter = new SlidingWindowCounter(SLOTS, window.toMillis());
+        this.ipCounter = new SlidingWindowCounter(SLOTS, window.toMillis());
+        this.clock = clock;
+    }
+
+    public void check(String email, String ip) {
+        long now = clock.getAsLong();
+
+        double emailAttempts = emailCounter.incrementAndEstimate(email.trim().toLowerCase(Locale.ROOT), now);
+        double ipAttempts = ipCounter.incrementAndEstimate(ip, now);
+
+        if (emailAttempts > emailLimit || ipAttempts > ipLimit) {
+            log.warn("로그인 시도 제한: email={}, ip={}", email, ip);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
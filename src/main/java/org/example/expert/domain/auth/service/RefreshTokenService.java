@@ -0,0 +1,96 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final Duration REFRESH_TOKEN_TIME = Duration.ofDays(14); // 14일
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * 새 refresh token 을 발급하고 원문을 반환한다. DB 에는 해시만 저장된다.
+     */
+    @Transactional
+    public String issue(User user) {
+        String rawToken = generateRawToken();
+        refreshTokenRepository.save(new RefreshToken(
+                hash(rawToken),
+                user,
+                LocalDateTime.now().plus(REFRESH_TOKEN_TIME)
+        ));
+        return rawToken;
+    }
+
+    /**
+     * refresh token 을 검증하고 폐기한 뒤 토큰의 주인을 반환한다. (한 번 쓴 토큰은 재사용 불가)
+     */
+    @Transactional
+    public User consume(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .orElseThrow(() -> new AuthException("유효하지 않은 리프레시 토큰입니다."));
+
+        // 동시에 같은 토큰으로 요청이 들어오면 먼저 삭제한 쪽만 성공
+        if (refreshTokenRepository.deleteByIdReturningCount(refreshToken.getId()) == 0) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new AuthException("만료된 리프레시 토큰입니다.");
+        }
+
+        return refreshToken.getUser();
+    }
+
+    @Transactional
+    public void revokeAll(long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteAllExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 정리: count={}", deleted);
+        }
+    }
+
+    private String generateRawToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String hash(String rawToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException("SHA-256 알고리즘을 사용할 수 없습니다.");
+        }
+    }
+}
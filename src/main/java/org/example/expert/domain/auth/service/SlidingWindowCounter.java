@@ -0,0 +1,145 @@
+package org.example.expert.domain.auth.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 슬롯 배열 위에서 동작하는 lock-free 슬라이딩 윈도우 카운터.
+ * key 는 프로세스마다 임의로 정한 키의 SipHash 로 슬롯에 매핑되므로 밖에서 같은 슬롯에 들어갈 key 를 계산할 수 없고,
+ * 슬롯에 key 의 fingerprint 를 함께 두어 다른 key 와 카운트를 공유하지 않는다.
+ * 다른 key 가 같은 슬롯에 들어오면 슬롯을 넘겨받아 새로 세므로, 충돌은 덜 세는 쪽으로만 틀리고 남을 대신 막지 않는다.
+ * 메모리는 key 개수와 무관하게 일정하고, 지난 윈도우의 값은 다음 접근 시 자연스럽게 덮어써진다.
+ */
+class SlidingWindowCounter {
+
+    // 슬롯마다 (fingerprint 16bit | 윈도우 번호 24bit | 현재 윈도우 카운트 12bit | 직전 윈도우 카운트 12bit)
+    // 두 윈도우를 한 번의 CAS 로 바꾸므로 윈도우가 넘어가는 중에도 직전 카운트를 놓치지 않음
+    private static final int COUNT_BITS = 12;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final int WINDOW_SHIFT = COUNT_BITS * 2;
+    private static final long WINDOW_MASK = (1L << 24) - 1;
+    private static final int FINGERPRINT_SHIFT = 48;
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final long windowMillis;
+    private final int mask;
+    private final long k0;
+    private final long k1;
+    private final AtomicLongArray slots;
+
+    SlidingWindowCounter(int slots, long windowMillis) {
+        this(slots, windowMillis, new SecureRandom());
+    }
+
+    SlidingWindowCounter(int slots, long windowMillis, Random keyRandom) {
+        if (Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("slots 는 2의 거듭제곱이어야 합니다.");
+        }
+        this.windowMillis = windowMillis;
+        this.mask = slots - 1;
+        this.k0 = keyRandom.nextLong();
+        this.k1 = keyRandom.nextLong();
+        this.slots = new AtomicLongArray(slots);
+    }
+
+    /**
+     * 이번 시도를 기록하고, 직전 윈도우를 경과 비율만큼 반영한 추정 시도 횟수를 반환한다.
+     */
+    double incrementAndEstimate(String key, long now) {
+        long hash = sipHash24(k0, k1, key.getBytes(StandardCharsets.UTF_8));
+        int slot = (int) hash & mask;
+        long fingerprint = hash >>> FINGERPRINT_SHIFT;
+        long window = (now / windowMillis) & WINDOW_MASK;
+
+        long currentCount;
+        long previousCount;
+        while (true) {
+            long packed = slots.get(slot);
+            long packedWindow = (packed >>> WINDOW_SHIFT) & WINDOW_MASK;
+            long packedCurrent = (packed >>> COUNT_BITS) & COUNT_MASK;
+
+            if ((packed >>> FINGERPRINT_SHIFT) != fingerprint) {
+                // 다른 key 의 슬롯이면 공유하지 않고 넘겨받아 새로 셈
+                currentCount = 1;
+                previousCount = 0;
+            } else if (packedWindow == window) {
+                currentCount = Math.min(packedCurrent + 1, COUNT_MASK);
+                previousCount = packed & COUNT_MASK;
+            } else if (packedWindow == ((window - 1) & WINDOW_MASK)) {
+                // 윈도우가 넘어갔으면 현재 값을 직전 값으로 옮김
+                currentCount = 1;
+                previousCount = packedCurrent;
+            } else {
+                currentCount = 1;
+                previousCount = 0;
+            }
+
+            if (slots.compareAndSet(slot, packed, pack(fingerprint, window, currentCount, previousCount))) {
+                break;
+            }
+        }
+
+        double previousWeight = 1.0 - (double) (now % windowMillis) / windowMillis;
+        return previousCount * previousWeight + currentCount;
+    }
+
+    private static long pack(long fingerprint, long window, long currentCount, long previousCount) {
+        return (fingerprint << FINGERPRINT_SHIFT) | (window << WINDOW_SHIFT) | (currentCount << COUNT_BITS) | previousCount;
+    }
+
+    // SipHash-2-4 (64bit 출력)
+    static long sipHash24(long k0, long k1, byte[] data) {
+        long[] v = {
+                0x736f6d6570736575L ^ k0,
+                0x646f72616e646f6dL ^ k1,
+                0x6c7967656e657261L ^ k0,
+                0x7465646279746573L ^ k1
+        };
+
+        int tail = data.length & ~7;
+        for (int i = 0; i < tail; i += 8) {
+            compress(v, (long) LONG_LE.get(data, i));
+        }
+        long last = (long) data.length << 56;
+        for (int i = tail; i < data.length; i++) {
+            last |= (data[i] & 0xffL) << (8 * (i - tail));
+        }
+        compress(v, last);
+
+        v[2] ^= 0xff;
+        for (int i = 0; i < 4; i++) {
+            sipRound(v);
+        }
+        return v[0] ^ v[1] ^ v[2] ^ v[3];
+    }
+
+    private static void compress(long[] v, long m) {
+        v[3] ^= m;
+        sipRound(v);
+        sipRound(v);
+        v[0] ^= m;
+    }
+
+    private static void sipRound(long[] v) {
+        v[0] += v[1];
+        v[1] = Long.rotateLeft(v[1], 13);
+        v[1] ^= v[0];
+        v[0] = Long.rotateLeft(v[0], 32);
+        v[2] += v[3];
+        v[3] = Long.rotateLeft(v[3], 16);
+        v[3] ^= v[2];
+        v[0] += v[3];
+        v[3] = Long.rotateLeft(v[3], 21);
+        v[3] ^= v[0];
+        v[2] += v[1];
+        v[1] = Long.rotateLeft(v[1], 17);
+        v[1] ^= v[2];
+        v[2] = Long.rotateLeft(v[2], 32);
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.VersionStamp;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +11,12 @@ import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 조건부 요청 검증자: 삭제는 최대 modifiedAt 을 바꾸지 않으므로 개수와 id 합을 함께 사용
+    @Query("SELECT new org.example.expert.domain.common.dto.VersionStamp(COUNT(c), MAX(c.modifiedAt), SUM(c.id)) " +
+            "FROM Comment c WHERE c.todo.id = :todoId")
+    VersionStamp findVersionByTodoId(@Param("todoId") Long todoId);
 }
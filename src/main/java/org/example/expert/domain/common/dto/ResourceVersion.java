@@ -0,0 +1,45 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+
+/**
+ * 응답 본문을 만들기 전에 ETag / Last-Modified 로 304 여부를 판단하기 위한 검증자.
+ */
+@Getter
+public class ResourceVersion {
+
+    // 검증할 수 없는 경우 (대상 없음 등): 항상 본문을 만들어 응답
+    public static final ResourceVersion NONE = new ResourceVersion(null, -1, 0);
+
+    private final String etag;
+    private final long lastModified; // epoch millis, 보내지 않으면 -1
+    private final long count; // 검증자를 만들 때 센 행 수 (목록의 전체 개수로 재사용)
+
+    private ResourceVersion(String etag, long lastModified, long count) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.count = count;
+    }
+
+    public static ResourceVersion of(String resource, VersionStamp stamp, boolean withLastModified) {
+        long lastModified = stamp.getLastModified() == null
+                ? -1
+                : stamp.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String etag = "\"" + resource + "-" + stamp.getCount() + "-" + lastModified + "-" + stamp.getChecksum() + "\"";
+        return new ResourceVersion(etag, withLastModified ? lastModified : -1, stamp.getCount());
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 와 비교해 변경이 없으면 304 를 설정하고 true 를 반환한다.
+     * 변경이 있으면 응답에 ETag / Last-Modified 헤더만 추가하고 false 를 반환한다.
+     */
+    public boolean checkNotModified(WebRequest webRequest) {
+        if (etag == null) {
+            return false;
+        }
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 요청 검증용 집계 값 (JPQL constructor expression).
+ * count = 행 수, lastModified = 최대 modifiedAt, checksum = 변경 감지용 보조 값 (id 합, 날씨 미정 건수 등)
+ */
+@Getter
+public class VersionStamp {
+
+    private final long count;
+    private final LocalDateTime lastModified;
+    private final long checksum;
+
+    public VersionStamp(Long count, LocalDateTime lastModified, Long checksum) {
+        this.count = count == null ? 0 : count;
+        this.lastModified = lastModified;
+        this.checksum = checksum == null ? 0 : checksum;
+    }
+
+    // 수정 시각이 없는 엔티티용
+    public VersionStamp(Long count, Long checksum) {
+        this(count, null, checksum);
+    }
+}
@@ -12,7 +12,11 @@ import org.example.expert.domain.user.entity.User;
 @Table(name = "managers")
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 할 일과 함께 배치로 insert 되도록 Todo 와 같은 방식으로 id 할당
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "manager_id")
+    @TableGenerator(name = "manager_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "managers", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
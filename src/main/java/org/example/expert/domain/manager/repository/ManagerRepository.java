@@ -1,5 +1,7 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.common.dto.VersionStamp;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +10,12 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id = :todoId")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 조건부 요청 검증자: 담당자는 수정 시각이 없으므로 개수와 id 합으로 추가/삭제를 감지
+    @Query("SELECT new org.example.expert.domain.common.dto.VersionStamp(COUNT(m), SUM(m.id)) " +
+            "FROM Manager m WHERE m.todo.id = :todoId")
+    VersionStamp findVersionByTodoId(@Param("todoId") Long todoId);
 }
@@ -2,6 +2,8 @@ package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.dto.VersionStamp;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
@@ -17,7 +19,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -59,22 +60,25 @@ public class ManagerService {
         );
     }
 
+    /**
+     * 담당자 목록의 ETag 검증자. 담당자가 없으면(할 일이 없는 경우 포함) 검증하지 않는다.
+     */
     @Transactional(readOnly = true)
-    public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+    public ResourceVersion getManagersVersion(long todoId) {
+        VersionStamp stamp = managerRepository.findVersionByTodoId(todoId);
+        if (stamp.getCount() == 0) {
+            return ResourceVersion.NONE;
+        }
+        return ResourceVersion.of("managers", stamp, false);
+    }
 
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+    @Transactional(readOnly = true)
+    public List<ManagerResponse> getManagers(long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
         }
-        return dtoList;
+
+        return managerRepository.findResponsesByTodoId(todoId);
     }
 
     @Transactional
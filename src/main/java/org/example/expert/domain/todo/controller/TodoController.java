@@ -4,19 +4,36 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.enums.TodoCountMode;
+import org.example.expert.domain.todo.service.TodoAsyncService;
+import org.example.expert.domain.todo.service.TodoDetailService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoAsyncService todoAsyncService;
+    private final TodoDetailService todoDetailService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +43,96 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 여러 건을 한 트랜잭션에서 JDBC 배치로 저장 (최대 1000건)
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
+    // 저장은 워커 풀에서 처리하고 요청 스레드는 바로 반환 (servlet async)
+    @PostMapping("/todos/async")
+    public CompletableFuture<ResponseEntity<TodoSaveResponse>> saveTodoAsync(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoSaveRequest todoSaveRequest
+    ) {
+        return todoAsyncService.saveTodo(authUser, todoSaveRequest).thenApply(ResponseEntity::ok);
+    }
+
+    // weather, modifiedFrom/modifiedTo(yyyy-MM-dd, 양 끝 포함), ownerId 로 필터링 (모두 선택)
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate modifiedTo,
+            @RequestParam(required = false) Long ownerId,
+            WebRequest webRequest
+    ) {
+        TodoFilter filter = new TodoFilter(weather, modifiedFrom, modifiedTo, ownerId);
+        ResourceVersion version = todoService.getTodosVersion(filter);
+        if (version.checkNotModified(webRequest)) {
+            return null; // 304, 목록 조회와 직렬화 생략
+        }
+        return ResponseEntity.ok(todoService.getTodos(page, size, filter, version.getCount()));
+    }
+
+    // count=none 이면 count 쿼리 없이, count=cached 면 캐시된 전체 개수와 함께 반환 (cached 는 필터와 함께 쓸 수 없음)
+    @GetMapping(value = "/todos", params = {"count", "!cursor"})
+    public ResponseEntity<TodoSliceResponse> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam String count,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate modifiedTo,
+            @RequestParam(required = false) Long ownerId
+    ) {
+        TodoFilter filter = new TodoFilter(weather, modifiedFrom, modifiedTo, ownerId);
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size, TodoCountMode.of(count), filter));
+    }
+
+    // cursor 파라미터가 있으면 keyset 페이지네이션 (첫 페이지는 cursor= 빈 값), 필터는 GET /todos 와 같음
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate modifiedTo,
+            @RequestParam(required = false) Long ownerId
+    ) {
+        TodoFilter filter = new TodoFilter(weather, modifiedFrom, modifiedTo, ownerId);
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, filter));
+    }
+
+    // 제목/내용 검색 (메모리 역색인, 모든 검색어를 포함하는 할 일을 관련도 순으로)
+    @GetMapping("/todos/search")
+    public ResponseEntity<Page<TodoResponse>> searchTodos(
+            @RequestParam String query,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.searchTodos(query, page, size));
     }
 
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        if (todoService.getTodoVersion(todoId).checkNotModified(webRequest)) {
+            return null; // 304
+        }
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
+
+    // 할 일 + 댓글/담당자를 한 번에 조회 (include=comments,managers)
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "") String include
+    ) {
+        return ResponseEntity.ok(todoDetailService.getTodoDetail(todoId, include));
+    }
 }
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+// 응답 본문이 매우 크므로 AdminApiLoggingAspect(응답 본문 로깅) 대상과 분리
+@RestController
+@RequiredArgsConstructor
+public class TodoExportController {
+
+    private final TodoExportService todoExportService;
+
+    // async 요청 타임아웃(spring.mvc.async.request-timeout)에 걸리지 않도록 요청 스레드에서 응답 스트림에 직접 씀
+    @GetMapping("/admin/todos/export")
+    public void exportTodos(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\"");
+        todoExportService.export(response.getOutputStream());
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * GET /todos 의 필터 조건. 모든 값은 선택이며 지정한 조건만 WHERE 절에 들어간다.
+ * 수정일 범위는 날짜 단위이고 양 끝을 포함한다.
+ */
+@Getter
+public class TodoFilter {
+
+    private static final TodoFilter EMPTY = new TodoFilter(null, null, null, null);
+
+    private final String weather;
+    private final LocalDate modifiedFrom;
+    private final LocalDate modifiedTo;
+    private final Long ownerId;
+
+    public TodoFilter(String weather, LocalDate modifiedFrom, LocalDate modifiedTo, Long ownerId) {
+        if (modifiedFrom != null && modifiedTo != null && modifiedFrom.isAfter(modifiedTo)) {
+            throw new InvalidRequestException("modifiedFrom 은 modifiedTo 보다 늦을 수 없습니다.");
+        }
+        this.weather = StringUtils.hasText(weather) ? weather : null;
+        this.modifiedFrom = modifiedFrom;
+        this.modifiedTo = modifiedTo;
+        this.ownerId = ownerId;
+    }
+
+    public static TodoFilter empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return weather == null && modifiedFrom == null && modifiedTo == null && ownerId == null;
+    }
+
+    // modified_at >= 시작일 00:00
+    public LocalDateTime getModifiedAtFrom() {
+        return modifiedFrom == null ? null : modifiedFrom.atStartOfDay();
+    }
+
+    // modified_at < 종료일 다음 날 00:00
+    public LocalDateTime getModifiedAtBefore() {
+        return modifiedTo == null ? null : modifiedTo.plusDays(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoSearchDocument {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final LocalDateTime modifiedAt;
+
+    public TodoSearchDocument(Long id, String title, String contents, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.modifiedAt = modifiedAt;
+    }
+}
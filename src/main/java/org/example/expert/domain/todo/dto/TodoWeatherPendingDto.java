@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoWeatherPendingDto {
+
+    private final Long todoId;
+    private final LocalDateTime createdAt;
+
+    public TodoWeatherPendingDto(Long todoId, LocalDateTime createdAt) {
+        this.todoId = todoId;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    // 한 트랜잭션에서 저장하므로 영속성 컨텍스트 크기를 고려해 제한
+    @NotEmpty
+    @Size(max = 1_000)
+    private List<@Valid TodoSaveRequest> todos;
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    private final int createdCount;
+    private final List<TodoSaveResponse> todos;
+
+    public TodoBatchSaveResponse(List<TodoSaveResponse> todos) {
+        this.createdCount = todos.size();
+        this.todos = todos;
+    }
+}
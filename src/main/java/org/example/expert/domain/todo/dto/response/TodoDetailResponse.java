@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final TodoResponse todo;
+    private final List<CommentResponse> comments; // include 에 없으면 null
+    private final List<ManagerResponse> managers; // include 에 없으면 null
+
+    public TodoDetailResponse(TodoResponse todo, List<CommentResponse> comments, List<ManagerResponse> managers) {
+        this.todo = todo;
+        this.comments = comments;
+        this.managers = managers;
+    }
+}
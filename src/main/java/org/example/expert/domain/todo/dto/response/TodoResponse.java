@@ -25,4 +25,9 @@ public class TodoResponse {
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL constructor expression 용 (엔티티를 거치지 않고 필요한 컬럼만 조회)
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, userEmail), createdAt, modifiedAt);
+    }
 }
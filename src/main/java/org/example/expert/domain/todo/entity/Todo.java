@@ -7,6 +7,8 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,9 +17,14 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @Table(name = "todos")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todos") // 2차 캐시, hibernate-cache.conf
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 배치를 끄므로 id_generators 테이블에서 50개씩 미리 할당 (pooled-lo)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(name = "todo_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "todos", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+public enum TodoCountMode {
+    NONE,  // 전체 개수 없이 다음 페이지 존재 여부만
+    CACHED; // 주기적으로 갱신되는 캐시된 전체 개수
+
+    public static TodoCountMode of(String mode) {
+        try {
+            return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 count 모드입니다.");
+        }
+    }
+}
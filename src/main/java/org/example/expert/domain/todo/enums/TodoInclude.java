@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum TodoInclude {
+    COMMENTS, MANAGERS;
+
+    // "comments,managers" -> {COMMENTS, MANAGERS}
+    public static Set<TodoInclude> parse(String include) {
+        Set<TodoInclude> includes = EnumSet.noneOf(TodoInclude.class);
+        if (include == null || include.isBlank()) {
+            return includes;
+        }
+        for (String token : include.split(",")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            try {
+                includes.add(valueOf(token.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("유효하지 않은 include 값입니다: " + token.trim());
+            }
+        }
+        return includes;
+    }
+}
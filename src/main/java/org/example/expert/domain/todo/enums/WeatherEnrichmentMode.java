@@ -0,0 +1,6 @@
+package org.example.expert.domain.todo.enums;
+
+public enum WeatherEnrichmentMode {
+    INLINE, // 저장 시점에 날씨가 없으면 실패
+    ASYNC   // 날씨 없이 먼저 저장하고 커밋 후 비동기로 채움
+}
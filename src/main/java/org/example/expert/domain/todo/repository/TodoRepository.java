@@ -1,25 +1,86 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.VersionStamp;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.dto.TodoWeatherPendingDto;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
-    @EntityGraph(attributePaths = "user")
-    @Query("SELECT t FROM Todo t ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 이하 조회용 projection: 엔티티 대신 필요한 컬럼만 DTO 로 바로 읽음 (영속성 컨텍스트 스냅샷 없음)
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @EntityGraph(attributePaths = "user")
-    @Query("SELECT t FROM Todo t " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    // 전체 개수는 목록 검증자(findVersion)의 count 를 쓰므로 count 쿼리 없이 페이지 내용만 조회
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findTodoResponses(Pageable pageable);
 
-    int countById(Long todoId);
+    // Slice 반환이라 count 쿼리 없이 size + 1 건만 조회
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findTodoResponseSlice(Pageable pageable);
+
+    // keyset 첫 페이지 (List 반환이라 count 쿼리 없음)
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstTodoResponsesByCursor(Pageable pageable);
+
+    // (modifiedAt, id) 가 커서보다 뒤인 행만 읽으므로 깊은 페이지도 앞쪽 행을 건너뛰지 않음
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findNextTodoResponsesByCursor(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
+
+    // 검색 결과 id 목록을 한 번에 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query(TODO_RESPONSE + "WHERE t.id IN :todoIds")
+    List<TodoResponse> findTodoResponsesByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 검색 색인 구축용: id 순으로 lastId 이후 행만 읽음
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoSearchDocument(t.id, t.title, t.contents, t.modifiedAt) " +
+            "FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<TodoSearchDocument> findSearchDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 검색 색인 따라잡기용: 다른 서버에서 저장된 할 일까지 (modifiedAt, id) 순으로 커서 이후 행만 읽음
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoSearchDocument(t.id, t.title, t.contents, t.modifiedAt) " +
+            "FROM Todo t WHERE t.modifiedAt > :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id > :id) " +
+            "ORDER BY t.modifiedAt, t.id")
+    List<TodoSearchDocument> findSearchDocumentsModifiedAfter(
+            @Param("modifiedAt") LocalDateTime modifiedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 조건부 요청 검증자: checksum 은 날씨 보강 대기 여부 (보강은 modifiedAt 을 바꾸지 않음)
+    @Query("SELECT new org.example.expert.domain.common.dto.VersionStamp(" +
+            "COUNT(t), MAX(t.modifiedAt), SUM(CASE WHEN t.weather IS NULL THEN 1 ELSE 0 END)) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    VersionStamp findVersionById(@Param("todoId") Long todoId);
+
+    // backfill 용: id 순으로 lastId 이후 행만 읽어서 채우지 못한 행을 건너뛰고 다음 행으로 진행
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoWeatherPendingDto(t.id, t.createdAt) " +
+            "FROM Todo t WHERE t.weather IS NULL AND t.id > :lastId ORDER BY t.id")
+    List<TodoWeatherPendingDto> findWeatherPendingAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 벌크 update 라서 modifiedAt 은 바뀌지 않음 (날씨 보강으로 목록 순서가 바뀌지 않도록)
+    @Modifying
+    @Query("UPDATE Todo t SET t.weather = :weather WHERE t.id = :todoId AND t.weather IS NULL")
+    int updateWeatherIfMissing(@Param("todoId") Long todoId, @Param("weather") String weather);
 }
@@ -0,0 +1,30 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.common.dto.VersionStamp;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TodoRepositoryCustom {
+
+    // 전체 개수는 findVersion 의 count 를 쓰므로 count 쿼리 없이 페이지 내용만 조회
+    List<TodoResponse> findTodoResponses(TodoFilter filter, Pageable pageable);
+
+    // count 쿼리 없이 size + 1 건만 조회
+    Slice<TodoResponse> findTodoResponseSlice(TodoFilter filter, Pageable pageable);
+
+    // keyset 페이지: cursorModifiedAt 이 null 이면 첫 페이지, 아니면 (cursorModifiedAt, cursorId) 보다 뒤인 행
+    List<TodoResponse> findTodoResponsesByCursor(TodoFilter filter, LocalDateTime cursorModifiedAt, Long cursorId, int limit);
+
+    // 필터 조건에 해당하는 목록의 조건부 요청 검증자 (개수, 최대 modifiedAt, 날씨 보강 대기 건수)
+    // 개수 / 최대 modifiedAt 은 인덱스만 읽고, 대기 건수는 weather IS NULL 인 행만 읽는 서브쿼리로 구함
+    VersionStamp findVersion(TodoFilter filter);
+
+    // 전체 할 일을 id 순으로 한 행씩 읽는 forward-only 스트림 (트랜잭션 안에서 사용하고 반드시 close)
+    Stream<TodoResponse> streamTodoResponses(int fetchSize);
+}
@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.dto.VersionStamp;
+import org.hibernate.jpa.HibernateHints;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 필터 조건이 있는 목록 조회. 지정한 조건만 WHERE 절에 넣어 (:x IS NULL OR ...) 형태 없이
+ * idx_todos_weather_modified_at_id / idx_todos_user_id_modified_at_id 범위 스캔이 되도록 한다.
+ */
+@RequiredArgsConstructor
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+    private final EntityManager em;
+
+    @Override
+    public List<TodoResponse> findTodoResponses(TodoFilter filter, Pageable pageable) {
+        TypedQuery<TodoResponse> query = em.createQuery(
+                TodoRepository.TODO_RESPONSE + where(filter) + "ORDER BY t.modifiedAt DESC, t.id DESC", TodoResponse.class);
+        bind(query, filter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        return query.getResultList();
+    }
+
+    @Override
+    public Slice<TodoResponse> findTodoResponseSlice(TodoFilter filter, Pageable pageable) {
+        TypedQuery<TodoResponse> query = em.createQuery(
+                TodoRepository.TODO_RESPONSE + where(filter) + "ORDER BY t.modifiedAt DESC, t.id DESC", TodoResponse.class);
+        bind(query, filter);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1); // 다음 페이지 여부를 알기 위해 한 건 더 조회
+        List<TodoResponse> content = query.getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public List<TodoResponse> findTodoResponsesByCursor(
+            TodoFilter filter, LocalDateTime cursorModifiedAt, Long cursorId, int limit) {
+        String where = where(filter);
+        if (cursorModifiedAt != null) {
+            String seek = "(t.modifiedAt < :cursorModifiedAt OR (t.modifiedAt = :cursorModifiedAt AND t.id < :cursorId)) ";
+            where = where.isEmpty() ? "WHERE " + seek : where + "AND " + seek;
+        }
+
+        TypedQuery<TodoResponse> query = em.createQuery(
+                TodoRepository.TODO_RESPONSE + where + "ORDER BY t.modifiedAt DESC, t.id DESC", TodoResponse.class);
+        bind(query, filter);
+        if (cursorModifiedAt != null) {
+            query.setParameter("cursorModifiedAt", cursorModifiedAt);
+            query.setParameter("cursorId", cursorId);
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public VersionStamp findVersion(TodoFilter filter) {
+        // 날씨 보강 대기 건수는 idx_todos_weather_modified_at_id 의 weather IS NULL 범위만 읽음
+        // (바깥 집계에 CASE WHEN weather IS NULL 을 넣으면 필터 범위 전체를 테이블에서 읽어야 함)
+        List<String> pendingConditions = conditions(filter, "p");
+        pendingConditions.add(0, "p.weather IS NULL");
+
+        TypedQuery<VersionStamp> query = em.createQuery(
+                "SELECT new org.example.expert.domain.common.dto.VersionStamp(" +
+                        "COUNT(t), MAX(t.modifiedAt), " +
+                        "(SELECT COUNT(p) FROM Todo p WHERE " + String.join(" AND ", pendingConditions) + ")) " +
+                        "FROM Todo t " + where(filter), VersionStamp.class);
+        bind(query, filter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public Stream<TodoResponse> streamTodoResponses(int fetchSize) {
+        // DTO projection 이라 영속성 컨텍스트에 엔티티가 쌓이지 않음
+        return em.createQuery(TodoRepository.TODO_RESPONSE + "ORDER BY t.id", TodoResponse.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static String where(TodoFilter filter) {
+        List<String> conditions = conditions(filter, "t");
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions) + " ";
+    }
+
+    private static List<String> conditions(TodoFilter filter, String alias) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.getWeather() != null) {
+            conditions.add(alias + ".weather = :weather");
+        }
+        if (filter.getOwnerId() != null) {
+            conditions.add(alias + ".user.id = :ownerId");
+        }
+        if (filter.getModifiedAtFrom() != null) {
+            conditions.add(alias + ".modifiedAt >= :modifiedAtFrom");
+        }
+        if (filter.getModifiedAtBefore() != null) {
+            conditions.add(alias + ".modifiedAt < :modifiedAtBefore");
+        }
+        return conditions;
+    }
+
+    private static void bind(TypedQuery<?> query, TodoFilter filter) {
+        if (filter.getWeather() != null) {
+            query.setParameter("weather", filter.getWeather());
+        }
+        if (filter.getOwnerId() != null) {
+            query.setParameter("ownerId", filter.getOwnerId());
+        }
+        if (filter.getModifiedAtFrom() != null) {
+            query.setParameter("modifiedAtFrom", filter.getModifiedAtFrom());
+        }
+        if (filter.getModifiedAtBefore() != null) {
+            query.setParameter("modifiedAtBefore", filter.getModifiedAtBefore());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+
+/**
+ * 할 일 저장을 전용 워커 풀에서 실행하고 CompletableFuture 로 돌려준다.
+ * 톰캣 요청 스레드는 바로 반환되고, 워커 수는 DB 커넥션 풀 크기에 맞춰 동시에 잡는 커넥션 수를 제한한다.
+ * 풀과 대기열이 모두 차면 바로 503 으로 거절한다.
+ */
+@Slf4j
+@Service
+public class TodoAsyncService {
+
+    private final TodoService todoService;
+    private final ThreadPoolExecutor executor;
+
+    public TodoAsyncService(
+            TodoService todoService,
+            @Value("${todo.async.pool-size:10}") int poolSize,
+            @Value("${todo.async.queue-capacity:200}") int queueCapacity
+    ) {
+        this.todoService = todoService;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("todo-write-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public CompletableFuture<TodoSaveResponse> saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        try {
+            // 트랜잭션은 프록시를 거친 TodoService.saveTodo 에서 워커 스레드 기준으로 열림
+            return CompletableFuture.supplyAsync(() -> todoService.saveTodo(authUser, todoSaveRequest), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("할 일 저장 워커 풀 포화: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 할 일 전체 개수 캐시. 목록 조회마다 COUNT(*) 를 실행하지 않도록 주기적으로 갱신하고,
+ * 이 서버에서 저장된 할 일은 커밋 후 바로 더한다. 다른 서버의 변경은 다음 갱신 때 반영되므로 근사값이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountCache {
+
+    private static final long NOT_LOADED = -1;
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong total = new AtomicLong(NOT_LOADED);
+
+    public long getTotal() {
+        long cached = total.get();
+        if (cached == NOT_LOADED) {
+            refresh(); // 첫 조회만 직접 count
+            cached = total.get();
+        }
+        return cached;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count-cache.refresh-interval:PT1M}")
+    public void refresh() {
+        total.set(todoRepository.count());
+    }
+
+    public void incrementAfterCommit() {
+        incrementAfterCommit(1);
+    }
+
+    public void incrementAfterCommit(long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(delta);
+            }
+        });
+    }
+
+    private void increment(long delta) {
+        // 아직 로딩 전이면 다음 refresh 에서 반영되므로 건드리지 않음
+        total.getAndUpdate(current -> current == NOT_LOADED ? NOT_LOADED : current + delta);
+    }
+}
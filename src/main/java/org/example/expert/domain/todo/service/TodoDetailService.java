@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.enums.TodoInclude;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 할 일 + 댓글 + 담당자를 한 번에 조회한다.
+ * 할 일을 요청 스레드에서 먼저 조회해 존재를 확인한 뒤, 댓글/담당자는 전용 워커에서 각자의 읽기 전용 트랜잭션으로 동시에 조회한다.
+ * 할 일이 없으면 워커에 아무것도 넘기지 않으므로 없는 할 일의 컬렉션 조회에 커넥션을 쓰지 않는다.
+ * 워커 풀과 대기열이 가득 차면 요청 스레드에서 직접 조회한다.
+ * open-in-view 를 끄고 있으므로 요청 스레드는 할 일 조회가 끝나면 커넥션을 반납하고, 워커 결과를 기다리는 동안 커넥션을 잡지 않는다.
+ */
+@Service
+public class TodoDetailService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+
+    public TodoDetailService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${todo.detail.pool-size:8}") int poolSize,
+            @Value("${todo.detail.queue-capacity:100}") int queueCapacity
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("todo-detail-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    public TodoDetailResponse getTodoDetail(long todoId, String include) {
+        Set<TodoInclude> includes = TodoInclude.parse(include);
+
+        TodoResponse todo = readOnlyTransaction.execute(status -> todoRepository.findTodoResponseById(todoId))
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        CompletableFuture<List<CommentResponse>> comments = includes.contains(TodoInclude.COMMENTS)
+                ? fetchAsync(() -> commentRepository.findResponsesByTodoId(todoId))
+                : CompletableFuture.completedFuture(null);
+        CompletableFuture<List<ManagerResponse>> managers = includes.contains(TodoInclude.MANAGERS)
+                ? fetchAsync(() -> managerRepository.findResponsesByTodoId(todoId))
+                : CompletableFuture.completedFuture(null);
+
+        return new TodoDetailResponse(todo, join(comments), join(managers));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> fetchAsync(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 할 일을 작성자와 함께 NDJSON(한 줄에 JSON 하나)으로 내보낸다.
+ * 읽기 전용 트랜잭션 하나에서 forward-only 스트림으로 읽으면서 바로 출력 스트림에 쓰므로
+ * 테이블 크기와 관계없이 메모리에는 한 묶음(flush 단위)만 머문다.
+ */
+@Slf4j
+@Service
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter rowWriter;
+    private final int fetchSize;
+    private final int flushInterval;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:-2147483648}") int fetchSize,
+            @Value("${todo.export.flush-interval:1000}") int flushInterval
+    ) {
+        this.todoRepository = todoRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+        // 행마다 flush 하지 않고 flushInterval 행마다 내보냄
+        this.rowWriter = objectMapper.writerFor(TodoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * @return 내보낸 행 수
+     */
+    public long export(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = rowWriter.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 컨테이너가 닫음
+            generator.setRootValueSeparator(null); // 줄바꿈은 직접 씀
+
+            Long count = readOnlyTransaction.execute(status -> {
+                try (Stream<TodoResponse> todos = todoRepository.streamTodoResponses(fetchSize)) {
+                    return writeRows(todos.iterator(), generator);
+                }
+            });
+            generator.flush();
+            log.info("할 일 내보내기 완료: {}건", count);
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeRows(Iterator<TodoResponse> todos, JsonGenerator generator) {
+        long count = 0;
+        try {
+            while (todos.hasNext()) {
+                rowWriter.writeValue(generator, todos.next());
+                generator.writeRaw('\n');
+                if (++count % flushInterval == 0) {
+                    generator.flush();
+                }
+            }
+            return count;
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊으면 트랜잭션을 롤백하고 커서를 닫음
+            throw new UncheckedIOException(e);
+        }
+    }
+}
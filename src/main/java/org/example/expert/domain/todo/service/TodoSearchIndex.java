@@ -0,0 +1,305 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 할 일 제목/내용 검색용 메모리 역색인.
+ * 단어마다 할 일 id 를 오름차순으로 정렬한 long[] 과 가중치 int[] 를 보관하고,
+ * 검색은 모든 검색어를 포함하는 id 를 교집합으로 구한 뒤 tf-idf 점수 순으로 정렬한다.
+ * 시작 시 DB 에서 한 번 구축하고, 이 서버에서 저장된 할 일은 커밋 후 바로 반영한다.
+ * 다른 서버에서 저장된 할 일은 주기적으로 modifiedAt 기준으로 따라잡으므로 최대 todo.search.catch-up-interval 만큼 늦게 검색된다.
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    private static final int TITLE_WEIGHT = 2; // 제목에 나온 단어는 내용보다 두 배 가중치
+    private static final int CONTENTS_WEIGHT = 1;
+    private static final int BUILD_BATCH_SIZE = 1000;
+    // 커밋 지연과 서버 간 시각 차이만큼 이전 따라잡기 구간과 겹쳐서 읽음 (다시 색인해도 결과는 같음)
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(1);
+
+    private final TodoRepository todoRepository;
+
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<Long, String[]> termsByTodo = new HashMap<>(); // 수정 시 이전 단어를 지우기 위해 보관
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    private volatile LocalDateTime caughtUpTo;
+
+    public TodoSearchIndex(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    /**
+     * DB 의 할 일 전체를 id 순으로 나눠 읽어 색인한다. 끝나기 전까지 검색은 준비 중으로 응답한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastId = 0;
+        int count = 0;
+        try {
+            List<TodoSearchDocument> documents;
+            do {
+                documents = todoRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                for (TodoSearchDocument document : documents) {
+                    index(document.getId(), document.getTitle(), document.getContents());
+                    lastId = document.getId();
+                }
+                count += documents.size();
+            } while (documents.size() == BUILD_BATCH_SIZE);
+            caughtUpTo = startedAt;
+            ready = true;
+            log.info("할 일 검색 색인 구축 완료: {}건", count);
+        } catch (Exception e) {
+            log.error("할 일 검색 색인 구축 실패 ({}건까지 색인)", count, e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 저장된 할 일을 색인한다.
+     * 서버마다 id 를 블록 단위(pooled-lo)로 할당해서 id 는 커밋 순서와 다르므로, 마지막으로 따라잡은 시각 이후 수정된 행을 읽는다.
+     */
+    @Scheduled(
+            initialDelayString = "${todo.search.catch-up-interval:PT30S}",
+            fixedDelayString = "${todo.search.catch-up-interval:PT30S}"
+    )
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime modifiedAt = caughtUpTo.minus(CATCH_UP_OVERLAP);
+        long lastId = 0;
+        List<TodoSearchDocument> documents;
+        do {
+            documents = todoRepository.findSearchDocumentsModifiedAfter(modifiedAt, lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (TodoSearchDocument document : documents) {
+                index(document.getId(), document.getTitle(), document.getContents());
+                modifiedAt = document.getModifiedAt();
+                lastId = document.getId();
+            }
+        } while (documents.size() == BUILD_BATCH_SIZE);
+        caughtUpTo = startedAt;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void indexAfterCommit(long todoId, String title, String contents) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index(todoId, title, contents);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index(todoId, title, contents);
+            }
+        });
+    }
+
+    /**
+     * 할 일을 색인한다. 이미 색인된 할 일이면 이전 단어를 지우고 새 내용으로 바꾼다.
+     */
+    public void index(long todoId, String title, String contents) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : tokenize(title)) {
+            weights.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(contents)) {
+            weights.merge(term, CONTENTS_WEIGHT, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = termsByTodo.get(todoId);
+            if (previous != null) {
+                for (String term : previous) {
+                    if (!weights.containsKey(term)) {
+                        removePosting(term, todoId);
+                    }
+                }
+            }
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                postingsByTerm.computeIfAbsent(entry.getKey(), term -> new Postings())
+                        .put(todoId, entry.getValue());
+            }
+            termsByTodo.put(todoId, weights.keySet().toArray(new String[0]));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 검색어를 포함하는 할 일을 점수 내림차순(같으면 최신 id 먼저)으로 offset 부터 limit 개 반환한다.
+     */
+    public SearchHits search(Collection<String> terms, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    return new SearchHits(List.of(), 0);
+                }
+                lists.add(postings);
+            }
+            if (lists.isEmpty()) {
+                return new SearchHits(List.of(), 0);
+            }
+            // 가장 짧은 목록부터 교집합을 좁혀 나감
+            lists.sort(Comparator.comparingInt(postings -> postings.size));
+
+            int documentCount = termsByTodo.size();
+            Postings shortest = lists.get(0);
+            int size = shortest.size;
+            long[] ids = Arrays.copyOf(shortest.ids, size);
+            double[] scores = new double[size];
+            double shortestIdf = idf(documentCount, shortest.size);
+            for (int i = 0; i < size; i++) {
+                scores[i] = shortest.weights[i] * shortestIdf;
+            }
+
+            for (int l = 1; l < lists.size() && size > 0; l++) {
+                Postings postings = lists.get(l);
+                double idf = idf(documentCount, postings.size);
+                int kept = 0;
+                int from = 0;
+                for (int i = 0; i < size; i++) {
+                    int found = Arrays.binarySearch(postings.ids, from, postings.size, ids[i]);
+                    if (found >= 0) {
+                        ids[kept] = ids[i];
+                        scores[kept] = scores[i] + postings.weights[found] * idf;
+                        kept++;
+                        from = found + 1;
+                    } else {
+                        from = -found - 1;
+                    }
+                }
+                size = kept;
+            }
+
+            return new SearchHits(top(ids, scores, size, offset, limit), size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 영문은 소문자로 바꾸고, 글자/숫자가 아닌 문자를 기준으로 나눈다.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private void removePosting(String term, long todoId) {
+        Postings postings = postingsByTerm.get(term);
+        if (postings != null && postings.remove(todoId) && postings.size == 0) {
+            postingsByTerm.remove(term);
+        }
+    }
+
+    private static double idf(int documentCount, int documentFrequency) {
+        return Math.log(1.0 + (double) documentCount / documentFrequency);
+    }
+
+    // 전체를 정렬하지 않고 offset + limit 개만 힙으로 골라냄
+    private static List<Long> top(long[] ids, double[] scores, int size, int offset, int limit) {
+        int wanted = offset + limit;
+        if (offset >= size || limit <= 0) {
+            return List.of();
+        }
+        Comparator<Integer> ranking = (a, b) -> {
+            int byScore = Double.compare(scores[b], scores[a]);
+            return byScore != 0 ? byScore : Long.compare(ids[b], ids[a]);
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(wanted, size), ranking.reversed());
+        for (int i = 0; i < size; i++) {
+            heap.offer(i);
+            if (heap.size() > wanted) {
+                heap.poll();
+            }
+        }
+        Integer[] ranked = heap.toArray(new Integer[0]);
+        Arrays.sort(ranked, ranking);
+
+        List<Long> page = new ArrayList<>(limit);
+        for (int i = offset; i < ranked.length; i++) {
+            page.add(ids[ranked[i]]);
+        }
+        return page;
+    }
+
+    public record SearchHits(List<Long> ids, int total) {
+    }
+
+    // 한 단어의 posting 목록: ids 는 오름차순, weights 는 같은 위치의 단어 가중치
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        void put(long id, int weight) {
+            // 새 할 일은 id 가 가장 크므로 대부분 맨 뒤에 붙음
+            int found = size > 0 && ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+            if (found >= 0) {
+                weights[found] = weight;
+                return;
+            }
+            int insertAt = -found - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int found = Arrays.binarySearch(ids, 0, size, id);
+            if (found < 0) {
+                return false;
+            }
+            System.arraycopy(ids, found + 1, ids, found, size - found - 1);
+            System.arraycopy(weights, found + 1, weights, found, size - found - 1);
+            size--;
+            return true;
+        }
+    }
+}
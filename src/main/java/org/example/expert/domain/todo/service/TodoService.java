@@ -1,34 +1,51 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.dto.VersionStamp;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoCountCache todoCountCache;
+    private final TodoSearchIndex todoSearchIndex;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        // 외부 API 가 아닌 메모리 테이블 조회, ASYNC 모드에서는 null 일 수 있음
+        String weather = todoWeatherEnricher.weatherForNewTodo();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -37,6 +54,11 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoCountCache.incrementAfterCommit();
+        todoSearchIndex.indexAfterCommit(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents());
+        if (weather == null) {
+            todoWeatherEnricher.enrichAfterCommit(savedTodo.getId(), savedTodo.getCreatedAt());
+        }
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -47,38 +69,154 @@ public class TodoService {
         );
     }
 
+    /**
+     * 여러 할 일을 한 트랜잭션에서 저장한다. 날씨는 한 번만 조회하고,
+     * todos / managers insert 는 hibernate.jdbc.batch_size 단위의 JDBC 배치로 나간다.
+     */
+    @Transactional
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        // 날씨가 없으면(ASYNC 모드) 건별로 보강 작업을 넣지 않고 backfill 에 맡김
+        String weather = todoWeatherEnricher.weatherForNewTodo();
+
+        List<Todo> newTodos = new ArrayList<>(todoBatchSaveRequest.getTodos().size());
+        for (TodoSaveRequest todoSaveRequest : todoBatchSaveRequest.getTodos()) {
+            newTodos.add(new Todo(todoSaveRequest.getTitle(), todoSaveRequest.getContents(), weather, user));
+        }
+        List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+        todoCountCache.incrementAfterCommit(savedTodos.size());
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        List<TodoSaveResponse> responses = new ArrayList<>(savedTodos.size());
+        for (Todo savedTodo : savedTodos) {
+            todoSearchIndex.indexAfterCommit(savedTodo.getId(), savedTodo.getTitle(), savedTodo.getContents());
+            responses.add(new TodoSaveResponse(
+                    savedTodo.getId(),
+                    savedTodo.getTitle(),
+                    savedTodo.getContents(),
+                    weather,
+                    userResponse
+            ));
+        }
+        return new TodoBatchSaveResponse(responses);
+    }
+
+    /**
+     * 목록의 ETag / Last-Modified 검증자. 날씨 보강을 기다리는 할 일이 있으면
+     * 보강이 modifiedAt 을 바꾸지 않으므로 Last-Modified 는 보내지 않는다.
+     */
     @Transactional(readOnly = true)
-    public Page<TodoResponse> getTodos(int page, int size) {
+    public ResourceVersion getTodosVersion(TodoFilter filter) {
+        VersionStamp stamp = todoRepository.findVersion(filter);
+        return ResourceVersion.of("todos", stamp, stamp.getChecksum() == 0);
+    }
+
+    /**
+     * 목록 본문. total 은 getTodosVersion 에서 센 개수를 받아 count 쿼리를 다시 실행하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Page<TodoResponse> getTodos(int page, int size, TodoFilter filter, long total) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        List<TodoResponse> todos = filter.isEmpty()
+                ? todoRepository.findTodoResponses(pageable)
+                : todoRepository.findTodoResponses(filter, pageable);
+        return new PageImpl<>(todos, pageable, total);
     }
 
     @Transactional(readOnly = true)
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    public TodoSliceResponse getTodoSlice(int page, int size, TodoCountMode countMode, TodoFilter filter) {
+        if (countMode == TodoCountMode.CACHED && !filter.isEmpty()) {
+            // 캐시된 개수는 전체 할 일 기준이라 필터 결과의 개수가 아님
+            throw new InvalidRequestException("count=cached 는 필터와 함께 사용할 수 없습니다.");
+        }
+        Pageable pageable = PageRequest.of(page - 1, size);
 
-        User user = todo.getUser();
+        Slice<TodoResponse> todos = filter.isEmpty()
+                ? todoRepository.findTodoResponseSlice(pageable)
+                : todoRepository.findTodoResponseSlice(filter, pageable);
+        Long totalElements = countMode == TodoCountMode.CACHED ? todoCountCache.getTotal() : null;
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        return new TodoSliceResponse(todos.getContent(), page, size, todos.hasNext(), totalElements);
+    }
+
+    @Transactional(readOnly = true)
+    public TodoCursorResponse getTodosByCursor(String cursor, int size, TodoFilter filter) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+        // 다음 페이지 존재 여부를 count 없이 알기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        TodoCursor todoCursor = StringUtils.hasText(cursor) ? TodoCursor.decode(cursor) : null;
+
+        List<TodoResponse> todos;
+        if (!filter.isEmpty()) {
+            todos = todoCursor == null
+                    ? todoRepository.findTodoResponsesByCursor(filter, null, null, size + 1)
+                    : todoRepository.findTodoResponsesByCursor(filter, todoCursor.getModifiedAt(), todoCursor.getId(), size + 1);
+        } else if (todoCursor == null) {
+            todos = todoRepository.findFirstTodoResponsesByCursor(limit);
+        } else {
+            todos = todoRepository.findNextTodoResponsesByCursor(todoCursor.getModifiedAt(), todoCursor.getId(), limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = content.get(content.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new TodoCursorResponse(content, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TodoResponse> searchTodos(String query, int page, int size) {
+        if (page < 1 || size < 1) {
+            throw new InvalidRequestException("page 와 size 는 1 이상이어야 합니다.");
+        }
+        List<String> terms = TodoSearchIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (!todoSearchIndex.isReady()) {
+            throw new ServiceUnavailableException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, size);
+        TodoSearchIndex.SearchHits hits = todoSearchIndex.search(new LinkedHashSet<>(terms), (int) pageable.getOffset(), size);
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+
+        // IN 조회 결과를 색인의 순위대로 다시 정렬
+        Map<Long, TodoResponse> todosById = new HashMap<>();
+        for (TodoResponse todo : todoRepository.findTodoResponsesByIdIn(hits.ids())) {
+            todosById.put(todo.getId(), todo);
+        }
+        List<TodoResponse> content = new ArrayList<>(hits.ids().size());
+        for (Long todoId : hits.ids()) {
+            TodoResponse todo = todosById.get(todoId);
+            if (todo != null) {
+                content.add(todo);
+            }
+        }
+        return new PageImpl<>(content, pageable, hits.total());
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getTodoVersion(long todoId) {
+        VersionStamp stamp = todoRepository.findVersionById(todoId);
+        if (stamp.getCount() == 0) {
+            return ResourceVersion.NONE; // 없는 할 일은 본문 조회에서 예외 처리
+        }
+        return ResourceVersion.of("todo", stamp, stamp.getChecksum() == 0);
+    }
+
+    @Transactional(readOnly = true)
+    public TodoResponse getTodo(long todoId) {
+        return todoRepository.findTodoResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
     }
 }
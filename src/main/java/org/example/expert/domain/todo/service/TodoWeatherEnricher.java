@@ -0,0 +1,148 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.dto.TodoWeatherPendingDto;
+import org.example.expert.domain.todo.enums.WeatherEnrichmentMode;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할 일의 날씨를 채운다.
+ * ASYNC 모드에서는 날씨 없이 먼저 저장하고, 커밋 후 전용 워커에서 생성일 기준 날씨를 채운다.
+ * 워커 대기열이 가득 찼거나 날씨 데이터가 아직 없던 행은 주기적인 backfill 에서 다시 처리한다.
+ * backfill 은 매번 비어 있는 행을 id 순으로 끝까지 훑으므로, 채울 수 없는 날짜의 행이 쌓여도 다른 행은 계속 채워진다.
+ */
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    private static final int BACKFILL_BATCH_SIZE = 100;
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+    private final WeatherEnrichmentMode mode;
+    private final ThreadPoolExecutor executor;
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TransactionTemplate transactionTemplate,
+            @Value("${todo.weather-enrichment.mode:INLINE}") WeatherEnrichmentMode mode,
+            @Value("${todo.weather-enrichment.pool-size:1}") int poolSize,
+            @Value("${todo.weather-enrichment.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.transactionTemplate = transactionTemplate;
+        this.mode = mode;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("todo-weather-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 새 할 일에 넣을 날씨. ASYNC 모드에서 아직 날씨를 알 수 없으면 null (커밋 후 보강 대상)
+     */
+    public String weatherForNewTodo() {
+        if (mode == WeatherEnrichmentMode.INLINE) {
+            return weatherClient.getTodayWeather();
+        }
+        return weatherClient.findTodayWeather().orElse(null);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 워커에 보강 작업을 넘긴다. 롤백된 할 일은 보강하지 않는다.
+     */
+    public void enrichAfterCommit(Long todoId, LocalDateTime createdAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(todoId, createdAt);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(todoId, createdAt);
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${todo.weather-enrichment.backfill-interval:PT1M}",
+            fixedDelayString = "${todo.weather-enrichment.backfill-interval:PT1M}"
+    )
+    public void backfill() {
+        // 날씨 테이블에 없는 날짜의 행은 계속 비어 있으므로, 앞쪽에 쌓여도 그 뒤 행까지 가도록 id keyset 으로 끝까지 읽음
+        long lastId = 0L;
+        int scanned = 0;
+        int updated = 0;
+        while (true) {
+            List<TodoWeatherPendingDto> pending =
+                    todoRepository.findWeatherPendingAfter(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            for (TodoWeatherPendingDto todo : pending) {
+                if (enrich(todo.getTodoId(), todo.getCreatedAt())) {
+                    updated++;
+                }
+            }
+            scanned += pending.size();
+            if (pending.size() < BACKFILL_BATCH_SIZE) {
+                break;
+            }
+            lastId = pending.get(pending.size() - 1).getTodoId();
+        }
+        if (updated > 0) {
+            log.info("날씨 backfill 완료: pending={}, updated={}", scanned, updated);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    boolean enrich(Long todoId, LocalDateTime createdAt) {
+        // 저장 시점(생성일)의 날씨로 채움
+        MonthDay monthDay = createdAt == null ? null : MonthDay.from(createdAt);
+        Optional<String> weather = monthDay == null
+                ? weatherClient.findTodayWeather()
+                : weatherClient.findWeather(monthDay);
+        if (weather.isEmpty()) {
+            return false; // 날씨 데이터가 들어온 뒤 backfill 에서 처리
+        }
+
+        Integer updated = transactionTemplate.execute(status ->
+                todoRepository.updateWeatherIfMissing(todoId, weather.get()));
+        return updated != null && updated > 0;
+    }
+
+    private void submit(Long todoId, LocalDateTime createdAt) {
+        try {
+            executor.execute(() -> enrich(todoId, createdAt));
+        } catch (RejectedExecutionException e) {
+            log.warn("날씨 보강 대기열이 가득 차 backfill 로 미룹니다: todoId={}", todoId);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.user.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.request.UserBulkSignupRequest;
+import org.example.expert.domain.user.dto.response.UserBulkSignupResponse;
+import org.example.expert.domain.user.service.UserBulkService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+// 요청 본문에 평문 비밀번호가 포함되므로 AdminApiLoggingAspect 대상(UserAdminController)과 분리
+@RestController
+@RequiredArgsConstructor
+public class UserProvisioningController {
+
+    private final UserBulkService userBulkService;
+
+    @PostMapping("/admin/users/bulk")
+    public ResponseEntity<UserBulkSignupResponse> bulkSignup(@Valid @RequestBody UserBulkSignupRequest userBulkSignupRequest) {
+        return ResponseEntity.ok(userBulkService.bulkSignup(userBulkSignupRequest));
+    }
+}
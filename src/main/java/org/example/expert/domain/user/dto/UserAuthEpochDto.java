@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.dto;
+
+import lombok.Getter;
+
+@Getter
+public class UserAuthEpochDto {
+
+    private final Long userId;
+    private final int authEpoch;
+
+    public UserAuthEpochDto(Long userId, int authEpoch) {
+        this.userId = userId;
+        this.authEpoch = authEpoch;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkSignupRequest {
+
+    // 각 행의 유효성은 행 단위 결과로 돌려주기 위해 서비스에서 검증
+    @NotEmpty
+    @Size(max = 10_000)
+    private List<SignupRequest> users;
+}
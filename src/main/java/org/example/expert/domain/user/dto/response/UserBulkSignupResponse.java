@@ -0,0 +1,19 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserBulkSignupResponse {
+
+    private final int createdCount;
+    private final int failedCount;
+    private final List<UserBulkSignupResult> results;
+
+    public UserBulkSignupResponse(int createdCount, int failedCount, List<UserBulkSignupResult> results) {
+        this.createdCount = createdCount;
+        this.failedCount = failedCount;
+        this.results = results;
+    }
+}
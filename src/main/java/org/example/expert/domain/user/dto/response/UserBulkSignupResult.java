@@ -0,0 +1,20 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.BulkSignupStatus;
+
+@Getter
+public class UserBulkSignupResult {
+
+    private final int index;
+    private final String email;
+    private final BulkSignupStatus status;
+    private final String message;
+
+    public UserBulkSignupResult(int index, String email, BulkSignupStatus status, String message) {
+        this.index = index;
+        this.email = email;
+        this.status = status;
+        this.message = message;
+    }
+}
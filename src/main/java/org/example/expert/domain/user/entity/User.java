@@ -6,11 +6,14 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Entity
 @NoArgsConstructor
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users") // 2차 캐시, hibernate-cache.conf
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,6 +23,8 @@ public class User extends Timestamped {
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    @Column(nullable = false)
+    private int authEpoch; // 역할/비밀번호 변경 시 UserRepository 에서 원자적으로 증가, 이전 epoch 로 발급된 토큰은 무효
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
@@ -37,11 +42,8 @@ public class User extends Timestamped {
         return new User(authUser.getId(), authUser.getEmail(), authUser.getUserRole());
     }
 
-    public void changePassword(String password) {
+    // cost 상향에 따른 재해싱 (비밀번호 자체는 같으므로 epoch 는 그대로)
+    public void rehashPassword(String password) {
         this.password = password;
     }
-
-    public void updateRole(UserRole userRole) {
-        this.userRole = userRole;
-    }
 }
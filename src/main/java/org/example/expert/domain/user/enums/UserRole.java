@@ -2,15 +2,27 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum UserRole {
     ADMIN, USER;
 
+    // 대문자 이름 -> UserRole (매 호출마다 values() 를 순회하지 않도록 미리 구성)
+    private static final Map<String, UserRole> BY_NAME = new HashMap<>();
+
+    static {
+        for (UserRole role : values()) {
+            BY_NAME.put(role.name(), role);
+        }
+    }
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        UserRole userRole = role == null ? null : BY_NAME.get(role.toUpperCase(Locale.ROOT));
+        if (userRole == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+        return userRole;
     }
 }
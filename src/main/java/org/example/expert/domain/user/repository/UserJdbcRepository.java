@@ -0,0 +1,57 @@
+package org.example.expert.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * IDENTITY 전략에서는 Hibernate 가 insert 를 batch 로 묶지 않으므로 대량 insert 는 JDBC batch 로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL =
+            "INSERT INTO users (email, password, user_role, auth_epoch, created_at, modified_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<User> users) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                users,
+                BATCH_SIZE,
+                (ps, user) -> {
+                    ps.setString(1, user.getEmail());
+                    ps.setString(2, user.getPassword());
+                    ps.setString(3, user.getUserRole().name());
+                    ps.setInt(4, user.getAuthEpoch());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                }
+        );
+    }
+
+    public void insert(User user) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(
+                INSERT_SQL,
+                user.getEmail(),
+                user.getPassword(),
+                user.getUserRole().name(),
+                user.getAuthEpoch(),
+                now,
+                now
+        );
+    }
+}
@@ -1,11 +1,44 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.UserAuthEpochDto;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    // epoch 가 0 인 유저는 기본값이므로 변경 이력이 있는 유저만 조회
+    @Query("SELECT new org.example.expert.domain.user.dto.UserAuthEpochDto(u.id, u.authEpoch) " +
+            "FROM User u WHERE u.authEpoch > 0")
+    List<UserAuthEpochDto> findAllWithAuthEpoch();
+
+    // epoch 는 DB 에서 원자적으로 증가시켜 동시에 변경되어도 같은 값이 두 번 나오지 않도록 함 (결과는 findAuthEpochById 로 다시 읽음)
+    @Modifying
+    @Query("UPDATE User u SET u.userRole = :userRole, u.authEpoch = u.authEpoch + 1, u.modifiedAt = :now WHERE u.id = :id")
+    int updateRoleAndIncrementAuthEpoch(@Param("id") Long id, @Param("userRole") UserRole userRole, @Param("now") LocalDateTime now);
+
+    // 검증한 해시가 그대로일 때만 변경 (그 사이 다른 요청이 바꿨으면 0건)
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword, u.authEpoch = u.authEpoch + 1, u.modifiedAt = :now " +
+            "WHERE u.id = :id AND u.password = :currentPassword")
+    int updatePasswordAndIncrementAuthEpoch(@Param("id") Long id,
+                                            @Param("currentPassword") String currentPassword,
+                                            @Param("newPassword") String newPassword,
+                                            @Param("now") LocalDateTime now);
+
+    @Query("SELECT u.authEpoch FROM User u WHERE u.id = :id")
+    int findAuthEpochById(@Param("id") Long id);
 }
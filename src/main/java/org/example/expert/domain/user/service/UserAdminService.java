@@ -1,23 +1,30 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.AuthEpochRegistry;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
-import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final AuthEpochRegistry authEpochRegistry;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        UserRole userRole = UserRole.of(userRoleChangeRequest.getRole());
+        if (userRepository.updateRoleAndIncrementAuthEpoch(userId, userRole, LocalDateTime.now()) == 0) {
+            throw new InvalidRequestException("User not found");
+        }
+        // update 로 행이 잠겨 있으므로 이 트랜잭션이 올린 epoch 를 그대로 읽음
+        authEpochRegistry.updateAfterCommit(userId, userRepository.findAuthEpochById(userId));
     }
 }
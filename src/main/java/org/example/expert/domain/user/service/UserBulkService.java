@@ -0,0 +1,150 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserBulkSignupRequest;
+import org.example.expert.domain.user.dto.response.UserBulkSignupResponse;
+import org.example.expert.domain.user.dto.response.UserBulkSignupResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.BulkSignupStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 관리자용 대량 가입.
+ * 해싱은 트랜잭션 밖에서 병렬로 처리하고, 중복 확인은 IN 쿼리, 저장은 JDBC batch 로 처리한다.
+ * 저장은 chunk 단위 트랜잭션이며, IN 확인 이후 다른 요청이 같은 이메일을 가입시켜 chunk 가 실패하면
+ * 그 chunk 만 한 행씩 다시 저장해서 중복 행을 결과에 표시한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserBulkService {
+
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1_000; // IN 절 파라미터 개수 제한
+    private static final int INSERT_CHUNK_SIZE = 500; // chunk 마다 트랜잭션 하나
+
+    private final UserRepository userRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserBulkSignupResponse bulkSignup(UserBulkSignupRequest userBulkSignupRequest) {
+        List<SignupRequest> rows = userBulkSignupRequest.getUsers();
+        UserBulkSignupResult[] results = new UserBulkSignupResult[rows.size()];
+
+        // 1. 행 단위 검증 + 요청 안에서의 중복 제거
+        Map<String, Integer> indexByEmail = new LinkedHashMap<>();
+        Map<Integer, UserRole> roleByIndex = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            SignupRequest row = rows.get(i);
+            String email = row == null ? null : row.getEmail();
+
+            String violation = validate(row);
+            if (violation != null) {
+                results[i] = new UserBulkSignupResult(i, email, BulkSignupStatus.INVALID, violation);
+                continue;
+            }
+            if (indexByEmail.putIfAbsent(email, i) != null) {
+                results[i] = new UserBulkSignupResult(i, email, BulkSignupStatus.DUPLICATE, "요청 안에 중복된 이메일입니다.");
+                continue;
+            }
+            roleByIndex.put(i, UserRole.of(row.getUserRole()));
+        }
+
+        // 2. 이미 가입된 이메일은 IN 쿼리로 한 번에 확인
+        Set<String> existingEmails = findExistingEmails(new ArrayList<>(indexByEmail.keySet()));
+        List<Integer> targetIndexes = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : indexByEmail.entrySet()) {
+            int index = entry.getValue();
+            if (existingEmails.contains(entry.getKey())) {
+                results[index] = new UserBulkSignupResult(index, entry.getKey(), BulkSignupStatus.DUPLICATE, "이미 존재하는 이메일입니다.");
+            } else {
+                targetIndexes.add(index);
+            }
+        }
+
+        // 3. 비밀번호 병렬 해싱 (DB 커넥션을 잡지 않은 상태에서 수행)
+        List<String> encodedPasswords = passwordEncoder.encodeAll(
+                targetIndexes.stream().map(index -> rows.get(index).getPassword()).toList()
+        );
+
+        List<User> users = new ArrayList<>(targetIndexes.size());
+        for (int i = 0; i < targetIndexes.size(); i++) {
+            int index = targetIndexes.get(i);
+            users.add(new User(rows.get(index).getEmail(), encodedPasswords.get(i), roleByIndex.get(index)));
+        }
+
+        // 4. JDBC batch insert (chunk 단위 트랜잭션)
+        int createdCount = 0;
+        for (int from = 0; from < users.size(); from += INSERT_CHUNK_SIZE) {
+            List<User> chunk = users.subList(from, Math.min(from + INSERT_CHUNK_SIZE, users.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> userJdbcRepository.batchInsert(chunk));
+                createdCount += chunk.size();
+                for (User user : chunk) {
+                    markCreated(results, indexByEmail.get(user.getEmail()), user.getEmail());
+                }
+            } catch (DuplicateKeyException e) {
+                createdCount += insertOneByOne(chunk, indexByEmail, results);
+            }
+        }
+        return new UserBulkSignupResponse(createdCount, rows.size() - createdCount, Arrays.asList(results));
+    }
+
+    // 중복으로 실패한 chunk 를 한 행씩 저장 (행마다 자동 커밋)
+    private int insertOneByOne(List<User> chunk, Map<String, Integer> indexByEmail, UserBulkSignupResult[] results) {
+        int createdCount = 0;
+        for (User user : chunk) {
+            int index = indexByEmail.get(user.getEmail());
+            try {
+                userJdbcRepository.insert(user);
+                createdCount++;
+                markCreated(results, index, user.getEmail());
+            } catch (DuplicateKeyException e) {
+                results[index] = new UserBulkSignupResult(index, user.getEmail(), BulkSignupStatus.DUPLICATE, "이미 존재하는 이메일입니다.");
+            }
+        }
+        return createdCount;
+    }
+
+    private static void markCreated(UserBulkSignupResult[] results, int index, String email) {
+        results[index] = new UserBulkSignupResult(index, email, BulkSignupStatus.CREATED, null);
+    }
+
+    private String validate(SignupRequest row) {
+        if (row == null) {
+            return "요청 값이 비어 있습니다.";
+        }
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SignupRequest> violation = violations.iterator().next();
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        try {
+            UserRole.of(row.getUserRole());
+        } catch (InvalidRequestException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    private Set<String> findExistingEmails(List<String> emails) {
+        Set<String> existingEmails = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, emails.size());
+            existingEmails.addAll(userRepository.findEmailsByEmailIn(emails.subList(from, to)));
+        }
+        return existingEmails;
+    }
+}
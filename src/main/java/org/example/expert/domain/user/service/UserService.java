@@ -1,7 +1,9 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.AuthEpochRegistry;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.RefreshTokenService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -9,6 +11,9 @@ import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +21,9 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthEpochRegistry authEpochRegistry;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional(readOnly = true)
     public UserResponse getUser(long userId) {
@@ -23,7 +31,10 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    /**
+     * bcrypt 검증/해싱은 커넥션을 잡지 않은 상태에서 수행하고, 변경만 짧은 트랜잭션에서 반영한다.
+     * 검증 이후 다른 요청이 먼저 비밀번호를 바꿨으면 변경하지 않는다.
+     */
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
 
         User user = userRepository.findById(userId)
@@ -37,6 +48,14 @@ public class UserService {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.updatePasswordAndIncrementAuthEpoch(userId, user.getPassword(), encodedPassword, LocalDateTime.now()) == 0) {
+                throw new InvalidRequestException("비밀번호가 이미 변경되었습니다. 다시 시도해주세요.");
+            }
+            authEpochRegistry.updateAfterCommit(userId, userRepository.findAuthEpochById(userId));
+            refreshTokenService.revokeAll(userId);
+        });
     }
 }
@@ -0,0 +1,13 @@
+-- 할 일 목록 (offset / keyset 모두 modified_at DESC, id DESC 정렬을 인덱스 순서로 읽음)
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at, id);
+
+-- 댓글 / 담당자 조회 (todo_id 로 찾고 user_id 로 users 조인)
+-- 복합 인덱스가 FK 를 대신하므로 FK 가 만든 todo_id 단일 인덱스는 제거
+CREATE INDEX idx_comments_todo_id_user_id ON comments (todo_id, user_id);
+DROP INDEX fk_comments_todo ON comments;
+
+CREATE INDEX idx_managers_todo_id_user_id ON managers (todo_id, user_id);
+DROP INDEX fk_managers_todo ON managers;
+
+-- 만료 리프레시 토큰 정리
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,6 @@
+-- GET /todos 필터 (동등 조건 뒤에 modified_at 범위 + modified_at DESC, id DESC 정렬을 인덱스 순서로 읽음)
+CREATE INDEX idx_todos_weather_modified_at_id ON todos (weather, modified_at, id);
+
+-- 작성자 필터, 복합 인덱스가 FK 를 대신하므로 FK 가 만든 user_id 단일 인덱스는 제거
+CREATE INDEX idx_todos_user_id_modified_at_id ON todos (user_id, modified_at, id);
+DROP INDEX fk_todos_user ON todos;
@@ -0,0 +1,14 @@
+-- todos / managers 의 id 를 IDENTITY 대신 테이블에서 묶음으로 할당 (Hibernate insert 배치 사용)
+-- next_val 은 마지막으로 할당한 id, 기존 행의 최대 id 에서 시작
+CREATE TABLE id_generators
+(
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'todos', COALESCE(MAX(id), 0) FROM todos;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'managers', COALESCE(MAX(id), 0) FROM managers;
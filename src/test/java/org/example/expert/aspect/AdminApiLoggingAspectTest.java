@@ -2,6 +2,8 @@ package org.example.expert.aspect;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.example.expert.config.JwtFilter;
+import org.example.expert.support.AuthUserFixture;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,7 +42,7 @@ class AdminApiLoggingAspectTest {
         // given
         MockHttpServletRequest request = new MockHttpServletRequest();
         ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        requestWrapper.setAttribute("userId", 1L);
+        requestWrapper.setAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, AuthUserFixture.createAdminAuthUser());
         ServletRequestAttributes attributes = new ServletRequestAttributes(requestWrapper);
         RequestContextHolder.setRequestAttributes(attributes);
 
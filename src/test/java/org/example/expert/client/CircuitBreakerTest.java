@@ -0,0 +1,69 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new CircuitBreaker(2, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 열리고 open 시간 동안 호출을 막음")
+    void recordFailure_ShouldOpen_WhenThresholdReached() {
+        // when
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("open 시간이 지나면 시험 호출 하나만 허용하고 성공하면 닫힘")
+    void tryAcquire_ShouldAllowSingleProbe_WhenHalfOpen() {
+        // given
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        now.set(10_000);
+
+        // when
+        boolean first = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        circuitBreaker.recordSuccess();
+
+        // then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열림")
+    void recordFailure_ShouldReopen_WhenProbeFails() {
+        // given
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        now.set(10_000);
+        circuitBreaker.tryAcquire();
+
+        // when
+        circuitBreaker.recordFailure();
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.MonthDay;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_URL = "https://f-api.github.io/f-api/weather.json";
+    private static final String WEATHER_JSON =
+            "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"date\":\"02-29\",\"weather\":\"Snowy\"}]";
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T09:00:00Z"), ZoneOffset.UTC);
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplateBuilder().rootUri("https://f-api.github.io").build();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+        weatherClient = new WeatherClient(
+                restTemplate, new CircuitBreaker(2, Duration.ofMinutes(1)), meterRegistry, "", CLOCK);
+    }
+
+    @Test
+    @DisplayName("갱신 후에는 네트워크 호출 없이 MonthDay 로 날씨를 조회")
+    void refresh_ShouldLoadTable() {
+        // given
+        server.expect(requestTo(WEATHER_URL)).andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+
+        // when
+        weatherClient.refresh();
+
+        // then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals("Snowy", weatherClient.findWeather(MonthDay.of(2, 29)).orElseThrow());
+        assertTrue(weatherClient.findWeather(MonthDay.of(3, 1)).isEmpty());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 이전 테이블을 그대로 사용")
+    void refresh_ShouldKeepLastGoodTable_WhenRefreshFails() {
+        // given
+        server.expect(requestTo(WEATHER_URL)).andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(WEATHER_URL)).andRespond(withServerError());
+        weatherClient.refresh();
+
+        // when
+        weatherClient.refresh();
+
+        // then
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("첫 로딩 전에는 재시도하고, 로딩된 뒤에는 재시도하지 않음")
+    void retryUntilLoaded_ShouldRetryOnlyUntilTableLoaded() {
+        // given
+        server.expect(requestTo(WEATHER_URL)).andRespond(withServerError());
+        server.expect(requestTo(WEATHER_URL)).andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+        weatherClient.refresh(); // 시작 시 로딩 실패
+
+        // when
+        weatherClient.retryUntilLoaded();
+        weatherClient.retryUntilLoaded();
+
+        // then
+        server.verify(); // 두 번째 재시도는 요청 없이 종료
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+    }
+
+    @Test
+    @DisplayName("로딩 전이면 예외")
+    void getTodayWeather_ShouldThrow_WhenNotLoaded() {
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷이 열리면 외부 API 를 호출하지 않음")
+    void refresh_ShouldSkipCall_WhenCircuitOpen() {
+        // given
+        server.expect(requestTo(WEATHER_URL)).andRespond(withServerError());
+        server.expect(requestTo(WEATHER_URL)).andRespond(withServerError());
+        weatherClient.refresh();
+        weatherClient.refresh();
+
+        // when
+        weatherClient.refresh();
+
+        // then
+        server.verify(); // 세 번째 갱신은 요청 없이 종료
+        assertEquals(2, meterRegistry.get("weather.api.requests").tag("outcome", "failure").timer().count());
+        assertEquals(2.0, meterRegistry.get("weather.circuit.state").gauge().value());
+    }
+
+    @Test
+    @DisplayName("첫 로딩 재시도가 연속 실패하면 서킷이 열린 동안 재시도를 건너뛰고, open 시간 후 시험 호출로 로딩")
+    void retryUntilLoaded_ShouldBackOff_WhileCircuitOpen() {
+        // given
+        AtomicLong now = new AtomicLong();
+        WeatherClient retryingClient = new WeatherClient(
+                restTemplate, new CircuitBreaker(2, Duration.ofMinutes(1), now::get), new SimpleMeterRegistry(), "", CLOCK);
+        server.expect(requestTo(WEATHER_URL)).andRespond(withServerError());
+        server.expect(requestTo(WEATHER_URL)).andRespond(withServerError());
+        server.expect(requestTo(WEATHER_URL)).andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+        retryingClient.retryUntilLoaded();
+        retryingClient.retryUntilLoaded();
+
+        // when
+        retryingClient.retryUntilLoaded(); // 서킷이 열려 호출 없음
+        ServerException exception = assertThrows(ServerException.class, retryingClient::getTodayWeather);
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        retryingClient.retryUntilLoaded(); // half-open 시험 호출
+
+        // then
+        server.verify();
+        assertEquals("날씨 API 장애로 날씨 데이터가 없습니다.", exception.getMessage());
+        assertEquals("Sunny", retryingClient.getTodayWeather());
+    }
+
+    @Test
+    @DisplayName("fallback 값이 설정되어 있으면 날씨가 없을 때 fallback 을 반환")
+    void getTodayWeather_ShouldReturnFallback_WhenConfigured() {
+        // given
+        WeatherClient fallbackClient = new WeatherClient(
+                restTemplate, new CircuitBreaker(2, Duration.ofMinutes(1)), new SimpleMeterRegistry(), "Unknown", CLOCK);
+
+        // when & then
+        assertEquals("Unknown", fallbackClient.getTodayWeather());
+    }
+}
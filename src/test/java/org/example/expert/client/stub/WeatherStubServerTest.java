@@ -0,0 +1,70 @@
+package org.example.expert.client.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherStubServerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build(); // 애플리케이션과 같은 모듈 구성
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private WeatherStubServer server;
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("실제 API 와 같은 형식으로 366 일치 날씨를 응답")
+    void handle_ShouldServeYearOfWeather() throws Exception {
+        // given
+        server = start(new WeatherStubProperties());
+
+        // when
+        HttpResponse<byte[]> response = get();
+
+        // then
+        assertEquals(200, response.statusCode());
+        WeatherDto[] weathers = objectMapper.readValue(response.body(), WeatherDto[].class);
+        assertEquals(366, weathers.length);
+        assertEquals("02-29", weathers[59].getDate());
+    }
+
+    @Test
+    @DisplayName("errorRate 가 1 이면 항상 설정된 오류 상태로 응답")
+    void handle_ShouldReturnError_WhenErrorRateIsOne() throws Exception {
+        // given
+        WeatherStubProperties properties = new WeatherStubProperties();
+        properties.setErrorRate(1.0);
+        server = start(properties);
+
+        // when
+        HttpResponse<byte[]> response = get();
+
+        // then
+        assertEquals(503, response.statusCode());
+    }
+
+    private WeatherStubServer start(WeatherStubProperties properties) throws Exception {
+        properties.setPort(0);
+        WeatherStubServer stubServer = new WeatherStubServer(properties, objectMapper);
+        stubServer.start();
+        return stubServer;
+    }
+
+    private HttpResponse<byte[]> get() throws Exception {
+        URI uri = URI.create("http://localhost:" + server.getPort() + "/f-api/weather.json");
+        return httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.dto.UserAuthEpochDto;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AuthEpochRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private AuthEpochRegistry authEpochRegistry;
+
+    @Test
+    @DisplayName("DB 에 저장된 epoch 로 초기화")
+    void warmUp_ShouldLoadEpochsFromRepository() {
+        // given
+        given(userRepository.findAllWithAuthEpoch()).willReturn(List.of(
+                new UserAuthEpochDto(1L, 3),
+                new UserAuthEpochDto(2L, 1)
+        ));
+
+        // when
+        authEpochRegistry.warmUp();
+
+        // then
+        assertEquals(3, authEpochRegistry.currentEpoch(1L));
+        assertEquals(1, authEpochRegistry.currentEpoch(2L));
+        assertEquals(0, authEpochRegistry.currentEpoch(3L));
+    }
+
+    @Test
+    @DisplayName("epoch 는 더 큰 값만 반영되고 테이블이 커져도 유지")
+    void update_ShouldKeepMaxEpoch_WhenTableGrows() {
+        // given
+        int userCount = 5_000;
+
+        // when
+        for (long userId = 1; userId <= userCount; userId++) {
+            authEpochRegistry.update(userId, 2);
+        }
+        authEpochRegistry.update(1L, 1);
+
+        // then
+        assertEquals(2, authEpochRegistry.currentEpoch(1L));
+        assertEquals(2, authEpochRegistry.currentEpoch(userCount));
+        assertEquals(0, authEpochRegistry.currentEpoch(userCount + 1));
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseCatalogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorResponseCatalog errorResponseCatalog = new ErrorResponseCatalog(objectMapper);
+
+    @Test
+    @DisplayName("등록된 메시지는 기존 응답과 같은 JSON 바이트 반환")
+    void find_ShouldReturnPreEncodedBody() throws Exception {
+        // when
+        byte[] body = errorResponseCatalog.find(HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+
+        // then
+        JsonNode json = objectMapper.readTree(body);
+        assertEquals("FORBIDDEN", json.get("status").asText());
+        assertEquals(403, json.get("code").asInt());
+        assertEquals("접근 권한이 없습니다.", json.get("message").asText());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 메시지나 상태 코드는 null")
+    void find_ShouldReturnNull_WhenMessageNotRegistered() {
+        // when & then
+        assertNull(errorResponseCatalog.find(HttpStatus.BAD_REQUEST, "동적인 메시지 123"));
+        assertNull(errorResponseCatalog.find(HttpStatus.NOT_FOUND, "인증이 필요합니다."));
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtFilterTest {
+
+    private JwtUtil jwtUtil;
+    private AuthEpochRegistry authEpochRegistry;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+
+        String plainKey = "testSecretKeytestSecretKeytestSecretKeytestSecretKeytestSecretKey";
+        String encodedKey = Base64.getEncoder().encodeToString(plainKey.getBytes(StandardCharsets.UTF_8));
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", encodedKey);
+        jwtUtil.init();
+
+        authEpochRegistry = new AuthEpochRegistry(mock(UserRepository.class));
+        ObjectMapper objectMapper = new ObjectMapper();
+        jwtFilter = new JwtFilter(jwtUtil, authEpochRegistry, new ErrorResponseCatalog(objectMapper), objectMapper);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이면 AuthUser 를 request 에 한 번만 담아 전달")
+    void doFilter_ShouldSetAuthUser_WhenTokenValid() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", jwtUtil.createToken(1L, "user@test.com", UserRole.USER, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        AuthUser authUser = (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+        assertNotNull(chain.getRequest());
+        assertEquals(1L, authUser.getId());
+        assertEquals("user@test.com", authUser.getEmail());
+        assertEquals(UserRole.USER, authUser.getUserRole());
+    }
+
+    @Test
+    @DisplayName("일반 유저가 /admin 에 접근하면 403")
+    void doFilter_ShouldReturnForbidden_WhenUserAccessAdmin() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/admin/users/1");
+        request.addHeader("Authorization", jwtUtil.createToken(1L, "user@test.com", UserRole.USER, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("인증 헤더가 없으면 401")
+    void doFilter_ShouldReturnUnauthorized_WhenHeaderMissing() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertEquals("{\"status\":\"UNAUTHORIZED\",\"code\":401,\"message\":\"인증이 필요합니다.\"}",
+                response.getContentAsString(StandardCharsets.UTF_8));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("역할 변경으로 epoch 가 올라가면 이전 토큰은 401")
+    void doFilter_ShouldReturnUnauthorized_WhenTokenEpochRevoked() throws Exception {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "admin@test.com", UserRole.ADMIN, 0);
+        authEpochRegistry.update(1L, 1);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/admin/users/2");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,7 +38,7 @@ class JwtUtilTest {
         UserRole userRole = UserRole.USER;
 
         // when
-        String bearerToken = jwtUtil.createToken(userId, email, userRole);
+        String bearerToken = jwtUtil.createToken(userId, email, userRole, 0);
         String token = jwtUtil.substringToken(bearerToken);
         Claims claims = jwtUtil.extractClaims(token);
 
@@ -85,7 +86,7 @@ class JwtUtilTest {
         String email = "claims@test.com";
         UserRole userRole = UserRole.ADMIN;
 
-        String bearerToken = jwtUtil.createToken(userId, email, userRole);
+        String bearerToken = jwtUtil.createToken(userId, email, userRole, 0);
         String token = jwtUtil.substringToken(bearerToken);
 
         // when
@@ -96,4 +97,53 @@ class JwtUtilTest {
         assertEquals(email, claims.get("email", String.class));
         assertEquals(userRole.name(), claims.get("userRole", String.class));
     }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 Claims 반환")
+    void extractClaims_ShouldUseCache_WhenTokenReused() {
+        // given
+        String bearerToken = jwtUtil.createToken(3L, "cache@test.com", UserRole.USER, 0);
+        String token = jwtUtil.substringToken(bearerToken);
+
+        // when
+        Claims first = jwtUtil.extractClaims(token);
+        Claims second = jwtUtil.extractClaims(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, jwtUtil.getClaimsCacheMissCount());
+        assertEquals(1, jwtUtil.getClaimsCacheHitCount());
+        assertEquals(1, jwtUtil.getClaimsCacheSize());
+    }
+
+    @Test
+    @DisplayName("claims 캐시 hit / miss 와 크기를 cache.gets, cache.size 메트릭으로 노출")
+    void bindTo_ShouldExposeClaimsCacheMetrics() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtUtil.bindTo(registry);
+        String token = jwtUtil.substringToken(jwtUtil.createToken(5L, "metric@test.com", UserRole.USER, 0));
+
+        // when
+        jwtUtil.extractClaims(token);
+        jwtUtil.extractClaims(token);
+        jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals(2, registry.get("cache.gets").tags("cache", "jwt-claims", "result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "jwt-claims", "result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("cache.size").tag("cache", "jwt-claims").gauge().value());
+    }
+
+    @Test
+    @DisplayName("서명이 잘못된 토큰은 캐시되지 않음")
+    void extractClaims_ShouldNotCache_WhenSignatureInvalid() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(4L, "invalid@test.com", UserRole.USER, 0));
+        String tamperedToken = token.substring(0, token.length() - 2) + "xx";
+
+        // when & then
+        assertThrows(Exception.class, () -> jwtUtil.extractClaims(tamperedToken));
+        assertEquals(0, jwtUtil.getClaimsCacheSize());
+    }
 }
@@ -1,19 +1,25 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private PasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(BCrypt.MIN_COST, 2, 16);
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
 
     @Test
     @DisplayName("비밀번호 암호화 성공")
@@ -42,4 +48,59 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    @DisplayName("설정된 cost 보다 낮은 해시만 재해싱 대상")
+    void needsRehash_ShouldCompareCost() {
+        // given
+        PasswordEncoder strongerEncoder = new PasswordEncoder(BCrypt.MIN_COST + 2, 1, 4);
+        String weakHash = passwordEncoder.encode("testPassword");
+
+        // when & then
+        try {
+            assertTrue(strongerEncoder.needsRehash(weakHash));
+            assertFalse(strongerEncoder.needsRehash(strongerEncoder.encode("testPassword")));
+            assertFalse(passwordEncoder.needsRehash(weakHash));
+        } finally {
+            strongerEncoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대량 해싱도 같은 워커 풀에서 처리하고 결과는 입력 순서대로 반환")
+    void encodeAll_ShouldHashOnWorkerPoolInOrder() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+        List<String> rawPasswords = List.of("Password1", "Password2", "Password3", "Password4", "Password5");
+
+        // when
+        List<String> encodedPasswords = passwordEncoder.encodeAll(rawPasswords);
+
+        // then
+        assertEquals(rawPasswords.size(), encodedPasswords.size());
+        for (int i = 0; i < rawPasswords.size(); i++) {
+            assertTrue(BCrypt.verifyer().verify(rawPasswords.get(i).toCharArray(), encodedPasswords.get(i)).verified);
+        }
+        assertEquals(rawPasswords.size(), registry.get("bcrypt.hash").functionTimer().count());
+    }
+
+    @Test
+    @DisplayName("풀 상태, 거절 수, 해싱 시간을 bcrypt.* 메트릭으로 노출")
+    void bindTo_ShouldExposePoolMetrics() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(registry);
+
+        // when
+        passwordEncoder.matches("testPassword", passwordEncoder.encode("testPassword"));
+
+        // then
+        FunctionTimer hashTimer = registry.get("bcrypt.hash").functionTimer();
+        assertEquals(2, hashTimer.count());
+        assertTrue(hashTimer.totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(0, registry.get("bcrypt.rejected").functionCounter().count());
+        assertEquals(0, registry.get("bcrypt.pool.queued").gauge().value());
+        assertNotNull(registry.get("bcrypt.pool.active").gauge());
+    }
 }
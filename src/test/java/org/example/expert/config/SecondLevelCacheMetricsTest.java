@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SecondLevelCacheMetricsTest {
+
+    @Test
+    @DisplayName("region 별 hit / (hit + miss) 를 게이지로 노출하고 조회가 없으면 NaN")
+    void bindTo_ShouldRegisterHitRatioPerRegion() {
+        // given
+        Statistics statistics = mock(Statistics.class);
+        CacheRegionStatistics users = mock(CacheRegionStatistics.class);
+        CacheRegionStatistics todos = mock(CacheRegionStatistics.class);
+        given(statistics.getSecondLevelCacheRegionNames()).willReturn(new String[]{"users", "todos"});
+        given(statistics.getCacheRegionStatistics("users")).willReturn(users);
+        given(statistics.getCacheRegionStatistics("todos")).willReturn(todos);
+        given(users.getHitCount()).willReturn(3L);
+        given(users.getMissCount()).willReturn(1L);
+
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        given(sessionFactory.getStatistics()).willReturn(statistics);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        new SecondLevelCacheMetrics(entityManagerFactory).bindTo(registry);
+
+        // then
+        assertEquals(0.75, registry.get("hibernate.second.level.cache.hit.ratio").tag("region", "users").gauge().value());
+        assertTrue(Double.isNaN(registry.get("hibernate.second.level.cache.hit.ratio").tag("region", "todos").gauge().value()));
+    }
+}
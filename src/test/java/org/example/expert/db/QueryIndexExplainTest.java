@@ -0,0 +1,148 @@
+package org.example.expert.db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 MySQL 에서 마이그레이션으로 만든 인덱스를 실제로 쓰는지 EXPLAIN 으로 확인한다.
+ * MYSQL_EXPLAIN_TESTS=true 일 때만 실행 (application.yml 의 datasource 사용)
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "MYSQL_EXPLAIN_TESTS", matches = "true")
+class QueryIndexExplainTest {
+
+    private static final int TODO_COUNT = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+    private long todoId;
+
+    @BeforeEach
+    void setUp() {
+        String email = "explain-" + System.nanoTime() + "@test.com";
+        jdbcTemplate.update("INSERT INTO users (email, password, user_role, auth_epoch) VALUES (?, 'x', 'USER', 0)", email);
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Timestamp timestamp = Timestamp.valueOf(now.minusMinutes(i));
+            todos.add(new Object[]{"title" + i, i % 4 == 0 ? "Sunny" : "Rainy", userId, timestamp, timestamp});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO todos (title, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)", todos);
+        todoId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM todos WHERE user_id = ?", Long.class, userId);
+
+        jdbcTemplate.update("INSERT INTO comments (contents, user_id, todo_id) VALUES ('c', ?, ?)", userId, todoId);
+        jdbcTemplate.update("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", userId, todoId);
+        jdbcTemplate.execute("ANALYZE TABLE users, todos, comments, managers");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM managers WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM todos WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("할 일 목록 정렬은 idx_todos_modified_at_id 를 역순으로 읽고 filesort 하지 않음")
+    void todoList_ShouldUseModifiedAtIndex() {
+        // when
+        Map<String, Object> offsetPlan = explain(
+                "SELECT * FROM todos t ORDER BY t.modified_at DESC, t.id DESC LIMIT 10", "t");
+        Map<String, Object> keysetPlan = explain(
+                "SELECT * FROM todos t WHERE t.modified_at < NOW(6) OR (t.modified_at = NOW(6) AND t.id < 100) " +
+                        "ORDER BY t.modified_at DESC, t.id DESC LIMIT 11", "t");
+
+        // then
+        assertIndexUsed(offsetPlan, "idx_todos_modified_at_id");
+        assertIndexUsed(keysetPlan, "idx_todos_modified_at_id");
+    }
+
+    @Test
+    @DisplayName("날씨 / 작성자 필터는 각 복합 인덱스의 범위 스캔으로 읽고 filesort 하지 않음")
+    void todoFilter_ShouldUseCompositeIndexes() {
+        // when
+        Map<String, Object> weatherPlan = explain(
+                "SELECT * FROM todos t WHERE t.weather = 'Sunny' AND t.modified_at >= NOW(6) - INTERVAL 1 DAY " +
+                        "ORDER BY t.modified_at DESC, t.id DESC LIMIT 10", "t");
+        Map<String, Object> ownerPlan = explain(
+                "SELECT * FROM todos t WHERE t.user_id = " + userId + " AND t.modified_at < NOW(6) " +
+                        "ORDER BY t.modified_at DESC, t.id DESC LIMIT 10", "t");
+
+        // then
+        assertIndexUsed(weatherPlan, "idx_todos_weather_modified_at_id");
+        assertIndexUsed(ownerPlan, "idx_todos_user_id_modified_at_id");
+    }
+
+    @Test
+    @DisplayName("목록 검증자의 개수 / 최대 수정일은 인덱스만 읽고, 날씨 보강 대기 건수는 weather IS NULL 범위만 읽음")
+    void todoListVersion_ShouldReadIndexesOnly() {
+        // when
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT COUNT(t.id), MAX(t.modified_at), " +
+                        "(SELECT COUNT(p.id) FROM todos p WHERE p.weather IS NULL AND p.modified_at >= NOW(6) - INTERVAL 1 DAY) " +
+                        "FROM todos t WHERE t.modified_at >= NOW(6) - INTERVAL 1 DAY");
+        Map<String, Object> outer = plan.stream().filter(row -> "t".equals(row.get("table"))).findFirst().orElseThrow();
+        Map<String, Object> pending = plan.stream().filter(row -> "p".equals(row.get("table"))).findFirst().orElseThrow();
+
+        // then
+        assertEquals("idx_todos_modified_at_id", outer.get("key"), "plan: " + outer);
+        assertTrue(String.valueOf(outer.get("Extra")).contains("Using index"), "plan: " + outer);
+        assertEquals("idx_todos_weather_modified_at_id", pending.get("key"), "plan: " + pending);
+        assertTrue(String.valueOf(pending.get("Extra")).contains("Using index"), "plan: " + pending);
+    }
+
+    @Test
+    @DisplayName("댓글 조회는 idx_comments_todo_id_user_id 사용")
+    void commentsByTodo_ShouldUseCompositeIndex() {
+        // when
+        Map<String, Object> plan = explain(
+                "SELECT c.*, u.* FROM comments c JOIN users u ON u.id = c.user_id WHERE c.todo_id = " + todoId, "c");
+
+        // then
+        assertIndexUsed(plan, "idx_comments_todo_id_user_id");
+    }
+
+    @Test
+    @DisplayName("담당자 조회는 idx_managers_todo_id_user_id 사용")
+    void managersByTodo_ShouldUseCompositeIndex() {
+        // when
+        Map<String, Object> plan = explain(
+                "SELECT m.*, u.* FROM managers m JOIN users u ON u.id = m.user_id WHERE m.todo_id = " + todoId, "m");
+
+        // then
+        assertIndexUsed(plan, "idx_managers_todo_id_user_id");
+    }
+
+    private Map<String, Object> explain(String sql, String tableAlias) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql).stream()
+                .filter(row -> tableAlias.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("EXPLAIN 결과에 " + tableAlias + " 가 없습니다."));
+    }
+
+    private void assertIndexUsed(Map<String, Object> plan, String indexName) {
+        assertEquals(indexName, plan.get("key"), "plan: " + plan);
+        Object extra = plan.get("Extra");
+        assertFalse(extra != null && extra.toString().contains("Using filesort"), "plan: " + plan);
+    }
+}
@@ -4,8 +4,10 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
@@ -15,10 +17,14 @@ import org.example.expert.support.UserFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -27,6 +33,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -40,6 +50,14 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
     @InjectMocks
     private AuthService authService;
 
@@ -80,14 +98,16 @@ class AuthServiceTest {
         given(userRepository.existsByEmail(email)).willReturn(false);
         given(passwordEncoder.encode(rawPassword)).willReturn(encodedPassword);
         given(userRepository.save(any(User.class))).willReturn(savedUser);
-        given(jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole()))
+        given(jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getUserRole(), savedUser.getAuthEpoch()))
                 .willReturn(bearerToken);
+        given(refreshTokenService.issue(savedUser)).willReturn("refreshToken");
 
         // when
         SignupResponse response = authService.signup(request);
 
         // then
         assertNotNull(response);
+        assertEquals("refreshToken", response.getRefreshToken());
     }
 
     @Test
@@ -145,8 +165,9 @@ class AuthServiceTest {
 
         given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
         given(passwordEncoder.matches(rawPassword, user.getPassword())).willReturn(true);
-        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole()))
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getAuthEpoch()))
                 .willReturn(token);
+        given(refreshTokenService.issue(user)).willReturn("refreshToken");
 
         // when
         SigninResponse response = authService.signin(request);
@@ -154,5 +175,79 @@ class AuthServiceTest {
         // then
         assertNotNull(response);
         assertEquals(token, response.getBearerToken());
+        assertEquals("refreshToken", response.getRefreshToken());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 낮은 cost 해시는 재해싱")
+    void signin_ShouldRehashPassword_WhenCostOutdated() {
+        // given
+        String email = UserFixture.DEFAULT_EMAIL;
+        String rawPassword = UserFixture.DEFAULT_PASSWORD;
+        User user = new User(email, "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        SigninRequest request = new SigninRequest(email, rawPassword);
+
+        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(rawPassword, "oldHash")).willReturn(true);
+        given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(passwordEncoder.encode(rawPassword)).willReturn("newHash");
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        authService.signin(request);
+
+        // then
+        assertEquals("newHash", user.getPassword());
+        assertEquals(0, user.getAuthEpoch());
+    }
+
+    @Test
+    @DisplayName("로그인 - bcrypt 검증/재해싱은 트랜잭션을 시작하기 전에 수행")
+    void signin_ShouldHashBeforeTransaction() {
+        // given
+        String email = UserFixture.DEFAULT_EMAIL;
+        String rawPassword = UserFixture.DEFAULT_PASSWORD;
+        User user = new User(email, "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(rawPassword, "oldHash")).willReturn(true);
+        given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(passwordEncoder.encode(rawPassword)).willReturn("newHash");
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        authService.signin(new SigninRequest(email, rawPassword));
+
+        // then
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager, refreshTokenService);
+        inOrder.verify(passwordEncoder).matches(rawPassword, "oldHash");
+        inOrder.verify(passwordEncoder).encode(rawPassword);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(refreshTokenService).issue(user);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 성공 - 비밀번호 검증 없이 새 토큰 쌍 발급")
+    void refresh_ShouldIssueNewTokens() {
+        // given
+        User user = UserFixture.createUser();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        TokenRefreshRequest request = new TokenRefreshRequest("oldRefreshToken");
+
+        given(refreshTokenService.consume("oldRefreshToken")).willReturn(user);
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getAuthEpoch()))
+                .willReturn("Bearer newToken");
+        given(refreshTokenService.issue(user)).willReturn("newRefreshToken");
+
+        // when
+        TokenRefreshResponse response = authService.refresh(request);
+
+        // then
+        assertEquals("Bearer newToken", response.getBearerToken());
+        assertEquals("newRefreshToken", response.getRefreshToken());
+        verify(passwordEncoder, never()).matches(any(), any());
     }
 }
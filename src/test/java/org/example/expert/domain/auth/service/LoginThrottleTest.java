@@ -0,0 +1,62 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        loginThrottle = new LoginThrottle(3, 5, Duration.ofMinutes(1), now::get);
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 한도를 넘으면 거절")
+    void check_ShouldThrowException_WhenEmailLimitExceeded() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.check("test@email.com", "10.0.0." + i);
+        }
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> loginThrottle.check("TEST@email.com", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("같은 IP 에서 여러 이메일로 한도를 넘으면 거절")
+    void check_ShouldThrowException_WhenIpLimitExceeded() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.check("user" + i + "@email.com", "10.0.0.1");
+        }
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> loginThrottle.check("other@email.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("두 윈도우가 지나면 다시 허용")
+    void check_ShouldAllow_WhenWindowPassed() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.check("test@email.com", "10.0.0.1");
+        }
+
+        // when
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+
+        // then
+        assertDoesNotThrow(() -> loginThrottle.check("test@email.com", "10.0.0.1"));
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.support.UserFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    @Test
+    @DisplayName("refresh token 발급 시 원문이 아닌 해시만 저장")
+    void issue_ShouldStoreHashOnly() {
+        // given
+        User user = UserFixture.createUser();
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+
+        // when
+        String rawToken = refreshTokenService.issue(user);
+
+        // then
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+        assertNotEquals(rawToken, saved.getTokenHash());
+        assertEquals(64, saved.getTokenHash().length());
+        assertTrue(saved.getExpiresAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("refresh token 사용 성공 - 토큰은 폐기되고 유저 반환")
+    void consume_ShouldReturnUser() {
+        // given
+        User user = UserFixture.createUser();
+        RefreshToken refreshToken = new RefreshToken("hash", user, LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(refreshToken, "id", 1L);
+
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.deleteByIdReturningCount(1L)).willReturn(1);
+
+        // when
+        User result = refreshTokenService.consume("rawToken");
+
+        // then
+        assertSame(user, result);
+    }
+
+    @Test
+    @DisplayName("refresh token 사용 실패 - 이미 다른 요청에서 사용됨")
+    void consume_ShouldThrowException_WhenAlreadyConsumed() {
+        // given
+        RefreshToken refreshToken = new RefreshToken("hash", UserFixture.createUser(), LocalDateTime.now().plusDays(1));
+        ReflectionTestUtils.setField(refreshToken, "id", 1L);
+
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.deleteByIdReturningCount(anyLong())).willReturn(0);
+
+        // when
+        AuthException exception = assertThrows(AuthException.class, () -> refreshTokenService.consume("rawToken"));
+
+        // then
+        assertEquals("유효하지 않은 리프레시 토큰입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("refresh token 사용 실패 - 만료됨")
+    void consume_ShouldThrowException_WhenExpired() {
+        // given
+        RefreshToken refreshToken = new RefreshToken("hash", UserFixture.createUser(), LocalDateTime.now().minusMinutes(1));
+        ReflectionTestUtils.setField(refreshToken, "id", 1L);
+
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.deleteByIdReturningCount(anyLong())).willReturn(1);
+
+        // when
+        AuthException exception = assertThrows(AuthException.class, () -> refreshTokenService.consume("rawToken"));
+
+        // then
+        assertEquals("만료된 리프레시 토큰입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("refresh token 사용 실패 - 존재하지 않는 토큰")
+    void consume_ShouldThrowException_WhenTokenNotFound() {
+        // given
+        given(refreshTokenRepository.findByTokenHashWithUser(any())).willReturn(Optional.empty());
+
+        // when
+        AuthException exception = assertThrows(AuthException.class, () -> refreshTokenService.consume("rawToken"));
+
+        // then
+        assertEquals("유효하지 않은 리프레시 토큰입니다.", exception.getMessage());
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.expert.domain.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW_MILLIS = 60_000L;
+
+    @Test
+    @DisplayName("SipHash-2-4 참조 구현의 테스트 벡터와 같은 값")
+    void sipHash24_ShouldMatchReferenceVectors() {
+        // given (key = 00 01 .. 0f)
+        long k0 = 0x0706050403020100L;
+        long k1 = 0x0f0e0d0c0b0a0908L;
+        byte[] fifteenBytes = new byte[15];
+        for (int i = 0; i < fifteenBytes.length; i++) {
+            fifteenBytes[i] = (byte) i;
+        }
+
+        // when & then
+        assertEquals(0x726fdb47dd0e0e31L, SlidingWindowCounter.sipHash24(k0, k1, new byte[0]));
+        assertEquals(0xa129ca6149be45e5L, SlidingWindowCounter.sipHash24(k0, k1, fifteenBytes));
+    }
+
+    @Test
+    @DisplayName("같은 슬롯에 들어온 다른 key 와 카운트를 공유하지 않음")
+    void incrementAndEstimate_ShouldNotShareCount_WhenKeysCollide() {
+        // given (슬롯이 하나라 모든 key 가 충돌)
+        SlidingWindowCounter counter = new SlidingWindowCounter(1, WINDOW_MILLIS, new Random(1));
+        long now = 0L;
+        for (int i = 0; i < 5; i++) {
+            counter.incrementAndEstimate("attacker@email.com", now);
+        }
+
+        // when
+        double victimAttempts = counter.incrementAndEstimate("victim@email.com", now);
+
+        // then
+        assertEquals(1.0, victimAttempts);
+    }
+
+    @Test
+    @DisplayName("윈도우가 넘어가면 직전 카운트를 경과 비율만큼 반영")
+    void incrementAndEstimate_ShouldWeightPreviousWindow() {
+        // given
+        SlidingWindowCounter counter = new SlidingWindowCounter(16, WINDOW_MILLIS, new Random(1));
+        for (int i = 0; i < 4; i++) {
+            counter.incrementAndEstimate("test@email.com", WINDOW_MILLIS - 1);
+        }
+
+        // when (다음 윈도우의 1/4 지점)
+        double attempts = counter.incrementAndEstimate("test@email.com", WINDOW_MILLIS + WINDOW_MILLIS / 4);
+
+        // then
+        assertEquals(4 * 0.75 + 1, attempts);
+    }
+}
@@ -87,11 +87,9 @@ class CommentServiceTest {
     void getComments_ShouldGetComment() {
         // given
         long todoId = 1L;
-        Comment comment = CommentFixture.createComment();
-        ReflectionTestUtils.setField(comment, "id", 1L);
-        List<Comment> commentList = List.of(comment);
+        CommentResponse comment = new CommentResponse(1L, "contents", 2L, "user@test.com");
 
-        given(commentRepository.findByTodoIdWithUser(anyLong())).willReturn(commentList);
+        given(commentRepository.findResponsesByTodoId(anyLong())).willReturn(List.of(comment));
 
         // when
         List<CommentResponse> responses = commentService.getComments(todoId);
@@ -99,7 +97,8 @@ class CommentServiceTest {
         // then
         assertNotNull(responses);
         assertEquals(1, responses.size());
-        assertEquals(comment.getId(), responses.get(0).getId());
-        assertEquals(comment.getContents(), responses.get(0).getContents());
+        assertEquals(1L, responses.get(0).getId());
+        assertEquals("contents", responses.get(0).getContents());
+        assertEquals("user@test.com", responses.get(0).getUser().getEmail());
     }
 }
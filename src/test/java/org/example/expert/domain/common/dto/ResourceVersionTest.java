@@ -0,0 +1,75 @@
+package org.example.expert.domain.common.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceVersionTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_000_000);
+
+    @Test
+    @DisplayName("If-None-Match 가 같으면 304, 본문 생성 대상이 아님")
+    void checkNotModified_ShouldReturnTrue_WhenEtagMatches() {
+        // given
+        ResourceVersion version = ResourceVersion.of("todo", new VersionStamp(1L, MODIFIED_AT, 0L), true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, version.getEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = version.checkNotModified(new ServletWebRequest(request, response));
+
+        // then
+        assertTrue(notModified);
+        assertEquals(304, response.getStatus());
+        assertEquals(version.getEtag(), response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("변경되었으면 false 를 반환하고 ETag / Last-Modified 헤더만 추가")
+    void checkNotModified_ShouldSetValidators_WhenChanged() {
+        // given
+        ResourceVersion previous = ResourceVersion.of("todo", new VersionStamp(1L, MODIFIED_AT, 0L), true);
+        ResourceVersion current = ResourceVersion.of("todo", new VersionStamp(1L, MODIFIED_AT.plusSeconds(5), 0L), true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, previous.getEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = current.checkNotModified(new ServletWebRequest(request, response));
+
+        // then
+        assertFalse(notModified);
+        assertEquals(200, response.getStatus());
+        assertEquals(current.getEtag(), response.getHeader(HttpHeaders.ETAG));
+        long expectedSeconds = MODIFIED_AT.plusSeconds(5).atZone(ZoneId.systemDefault()).toEpochSecond();
+        assertEquals(expectedSeconds * 1000, response.getDateHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    @DisplayName("Last-Modified 를 쓰지 않는 검증자는 If-Modified-Since 만으로 304 를 만들지 않음")
+    void checkNotModified_ShouldIgnoreIfModifiedSince_WhenLastModifiedDisabled() {
+        // given
+        ResourceVersion version = ResourceVersion.of("comments", new VersionStamp(2L, MODIFIED_AT, 3L), false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1/comments");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, System.currentTimeMillis());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = version.checkNotModified(new ServletWebRequest(request, response));
+
+        // then
+        assertFalse(notModified);
+        assertNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+        assertFalse(ResourceVersion.NONE.checkNotModified(new ServletWebRequest(request, new MockHttpServletResponse())));
+    }
+}
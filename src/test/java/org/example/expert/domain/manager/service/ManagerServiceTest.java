@@ -47,7 +47,7 @@ class ManagerServiceTest {
     void saveManager_ShouldThrowException_WhenNoTodosIsNull() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(todoRepository.existsById(todoId)).willReturn(false);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -131,22 +131,19 @@ class ManagerServiceTest {
     void getManagers_ShouldReturnManagerList() {
         // given
         long todoId = 1L;
-        Todo todo = TodoFixture.createTodo();
-        ReflectionTestUtils.setField(todo, "id", todoId);
-
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        ManagerResponse managerResponse = new ManagerResponse(1L, 2L, "manager@test.com");
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of(managerResponse));
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
 
         // then
         assertEquals(1, managerResponses.size());
-        assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-        assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+        assertEquals(1L, managerResponses.get(0).getId());
+        assertEquals(2L, managerResponses.get(0).getUser().getId());
+        assertEquals("manager@test.com", managerResponses.get(0).getUser().getEmail());
     }
 
     @Test
@@ -0,0 +1,86 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.support.AuthUserFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TodoAsyncServiceTest {
+
+    private TodoService todoService;
+    private TodoAsyncService todoAsyncService;
+
+    @BeforeEach
+    void setUp() {
+        todoService = mock(TodoService.class);
+        todoAsyncService = new TodoAsyncService(todoService, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoAsyncService.shutdown();
+    }
+
+    @Test
+    @DisplayName("할 일 저장을 워커 스레드에서 실행하고 결과를 future 로 반환")
+    void saveTodo_ShouldCompleteOnWorkerThread() throws Exception {
+        // given
+        AuthUser authUser = AuthUserFixture.createAuthUser();
+        TodoSaveRequest request = new TodoSaveRequest("testTitle", "testContents");
+        TodoSaveResponse expected = new TodoSaveResponse(1L, "testTitle", "testContents", "Sunny",
+                new UserResponse(authUser.getId(), authUser.getEmail()));
+        String[] threadName = new String[1];
+        given(todoService.saveTodo(authUser, request)).willAnswer(invocation -> {
+            threadName[0] = Thread.currentThread().getName();
+            return expected;
+        });
+
+        // when
+        TodoSaveResponse response = todoAsyncService.saveTodo(authUser, request).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertSame(expected, response);
+        assertTrue(threadName[0].startsWith("todo-write-"));
+    }
+
+    @Test
+    @DisplayName("워커 풀과 대기열이 가득 차면 503 예외")
+    void saveTodo_ShouldThrow_WhenSaturated() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        given(todoService.saveTodo(any(), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        AuthUser authUser = AuthUserFixture.createAuthUser();
+        TodoSaveRequest request = new TodoSaveRequest("testTitle", "testContents");
+
+        CompletableFuture<TodoSaveResponse> running = todoAsyncService.saveTodo(authUser, request);
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<TodoSaveResponse> queued = todoAsyncService.saveTodo(authUser, request);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> todoAsyncService.saveTodo(authUser, request));
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountCacheTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoCountCache todoCountCache;
+
+    @Test
+    @DisplayName("첫 조회에서만 count 를 실행하고 이후 저장분은 메모리에서 더함")
+    void getTotal_ShouldCountOnceAndIncrementOnWrite() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+
+        // when
+        long first = todoCountCache.getTotal();
+        todoCountCache.incrementAfterCommit();
+        long second = todoCountCache.getTotal();
+
+        // then
+        assertEquals(10L, first);
+        assertEquals(11L, second);
+        verify(todoRepository, times(1)).count();
+    }
+}
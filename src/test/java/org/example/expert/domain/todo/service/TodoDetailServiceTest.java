@@ -0,0 +1,130 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class TodoDetailServiceTest {
+
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private ManagerRepository managerRepository;
+    private TodoDetailService todoDetailService;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        managerRepository = mock(ManagerRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        todoDetailService = new TodoDetailService(todoRepository, commentRepository, managerRepository,
+                new TransactionTemplate(transactionManager), 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoDetailService.shutdown();
+    }
+
+    @Test
+    @DisplayName("include 에 지정한 댓글과 담당자를 워커 스레드에서 조회해 함께 반환")
+    void getTodoDetail_ShouldFetchIncludedCollectionsOnWorkers() {
+        // given
+        long todoId = 1L;
+        TodoResponse todo = todoResponse(todoId);
+        List<CommentResponse> comments = List.of(new CommentResponse(1L, "comment", 1L, "user@test.com"));
+        List<ManagerResponse> managers = List.of(new ManagerResponse(1L, 2L, "manager@test.com"));
+        String[] threadNames = new String[2];
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(Optional.of(todo));
+        given(commentRepository.findResponsesByTodoId(todoId)).willAnswer(invocation -> {
+            threadNames[0] = Thread.currentThread().getName();
+            return comments;
+        });
+        given(managerRepository.findResponsesByTodoId(todoId)).willAnswer(invocation -> {
+            threadNames[1] = Thread.currentThread().getName();
+            return managers;
+        });
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(todoId, "comments, managers");
+
+        // then
+        assertSame(todo, response.getTodo());
+        assertSame(comments, response.getComments());
+        assertSame(managers, response.getManagers());
+        assertTrue(threadNames[0].startsWith("todo-detail-"));
+        assertTrue(threadNames[1].startsWith("todo-detail-"));
+    }
+
+    @Test
+    @DisplayName("include 가 없으면 할 일만 조회")
+    void getTodoDetail_ShouldSkipCollections_WhenIncludeEmpty() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findTodoResponseById(todoId)).willReturn(Optional.of(todoResponse(todoId)));
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(todoId, "");
+
+        // then
+        assertNull(response.getComments());
+        assertNull(response.getManagers());
+        verify(commentRepository, never()).findResponsesByTodoId(anyLong());
+        verify(managerRepository, never()).findResponsesByTodoId(anyLong());
+    }
+
+    @Test
+    @DisplayName("할 일이 없으면 댓글/담당자를 조회하지 않고 InvalidRequestException")
+    void getTodoDetail_ShouldThrow_WhenTodoNotFound() {
+        // given
+        given(todoRepository.findTodoResponseById(anyLong())).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoDetailService.getTodoDetail(1L, "comments,managers"));
+
+        // then
+        assertEquals("Todo not found", exception.getMessage());
+        verifyNoInteractions(commentRepository, managerRepository);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 include 값이면 InvalidRequestException")
+    void getTodoDetail_ShouldThrow_WhenIncludeUnknown() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoDetailService.getTodoDetail(1L, "comments,likes"));
+
+        // then
+        assertEquals("유효하지 않은 include 값입니다: likes", exception.getMessage());
+        verifyNoInteractions(todoRepository, commentRepository, managerRepository);
+    }
+
+    private static TodoResponse todoResponse(long todoId) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoResponse(todoId, "title", "contents", "Sunny", 1L, "user@test.com", now, now);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TodoExportServiceTest {
+
+    private static final int FETCH_SIZE = Integer.MIN_VALUE;
+
+    private TodoRepository todoRepository;
+    private PlatformTransactionManager transactionManager;
+    private TodoExportService todoExportService;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        todoExportService = new TodoExportService(todoRepository, new TransactionTemplate(transactionManager),
+                Jackson2ObjectMapperBuilder.json().build(), FETCH_SIZE, 2);
+    }
+
+    @Test
+    @DisplayName("할 일을 작성자와 함께 한 줄에 하나씩 NDJSON 으로 쓰고 스트림을 닫음")
+    void export_ShouldWriteOneJsonObjectPerLine() throws IOException {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(todoRepository.streamTodoResponses(FETCH_SIZE)).willReturn(
+                LongStream.rangeClosed(1, 3).mapToObj(TodoExportServiceTest::todoResponse).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = todoExportService.export(outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, count);
+        assertEquals(4, lines.length);
+        assertEquals("", lines[3]);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"title\":\"title1\""));
+        assertTrue(lines[2].contains("\"user\":{\"id\":1,\"email\":\"user@test.com\"}"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("출력 중 연결이 끊기면 IOException 을 던지고 트랜잭션을 롤백")
+    void export_ShouldRollback_WhenClientDisconnects() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(todoRepository.streamTodoResponses(FETCH_SIZE)).willReturn(
+                Stream.of(todoResponse(1L), todoResponse(2L)).onClose(() -> closed.set(true)));
+        OutputStream brokenStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // when
+        IOException exception = assertThrows(IOException.class, () -> todoExportService.export(brokenStream));
+
+        // then
+        assertEquals("Broken pipe", exception.getMessage());
+        assertTrue(closed.get());
+        verify(transactionManager).rollback(any());
+    }
+
+    private static TodoResponse todoResponse(long id) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 10, 0);
+        return new TodoResponse(id, "title" + id, "contents", "Sunny", 1L, "user@test.com", now, now);
+    }
+}
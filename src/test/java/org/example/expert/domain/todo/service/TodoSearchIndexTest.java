@@ -0,0 +1,112 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TodoSearchIndexTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private TodoRepository todoRepository;
+    private TodoSearchIndex todoSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        todoSearchIndex = new TodoSearchIndex(todoRepository);
+    }
+
+    @Test
+    @DisplayName("모든 검색어를 포함한 할 일만 제목 가중치를 반영한 점수 순으로 반환")
+    void search_ShouldReturnIntersectionRankedByScore() {
+        // given
+        todoSearchIndex.index(1L, "장보기", "우유 사기");
+        todoSearchIndex.index(2L, "우유 사기", "마트 장보기");
+        todoSearchIndex.index(3L, "운동", "우유 마시기");
+        todoSearchIndex.index(4L, "Report", "write REPORT");
+
+        // when
+        TodoSearchIndex.SearchHits hits = todoSearchIndex.search(List.of("우유", "사기"), 0, 10);
+
+        // then
+        assertEquals(2, hits.total());
+        assertEquals(List.of(2L, 1L), hits.ids());
+        assertEquals(List.of(4L), todoSearchIndex.search(TodoSearchIndex.tokenize("report"), 0, 10).ids());
+        assertEquals(0, todoSearchIndex.search(List.of("우유", "없는단어"), 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 최신 id 먼저, offset 과 limit 으로 페이지를 자름")
+    void search_ShouldPaginateWithIdTieBreak() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            todoSearchIndex.index(id, "todo", "");
+        }
+
+        // when
+        TodoSearchIndex.SearchHits hits = todoSearchIndex.search(List.of("todo"), 2, 2);
+
+        // then
+        assertEquals(5, hits.total());
+        assertEquals(List.of(3L, 2L), hits.ids());
+        assertTrue(todoSearchIndex.search(List.of("todo"), 5, 2).ids().isEmpty());
+    }
+
+    @Test
+    @DisplayName("다시 색인하면 이전 단어가 지워짐")
+    void index_ShouldReplacePreviousTerms() {
+        // given
+        todoSearchIndex.index(1L, "old title", "");
+
+        // when
+        todoSearchIndex.index(1L, "new title", "");
+
+        // then
+        assertEquals(0, todoSearchIndex.search(List.of("old"), 0, 10).total());
+        assertEquals(List.of(1L), todoSearchIndex.search(List.of("new"), 0, 10).ids());
+    }
+
+    @Test
+    @DisplayName("시작 시 DB 의 할 일을 id 순으로 나눠 읽어 색인하고 준비 완료 표시")
+    void build_ShouldIndexAllTodos() {
+        // given
+        given(todoRepository.findSearchDocumentsAfter(eq(0L), any()))
+                .willReturn(List.of(new TodoSearchDocument(1L, "first", "todo", MODIFIED_AT), new TodoSearchDocument(2L, "second", "todo", MODIFIED_AT)));
+
+        // when
+        assertFalse(todoSearchIndex.isReady());
+        todoSearchIndex.build();
+
+        // then
+        assertTrue(todoSearchIndex.isReady());
+        assertEquals(List.of(2L, 1L), todoSearchIndex.search(List.of("todo"), 0, 10).ids());
+    }
+
+    @Test
+    @DisplayName("구축 이후 다른 서버에서 저장된 할 일은 따라잡기에서 색인")
+    void catchUp_ShouldIndexTodosSavedOnOtherServers() {
+        // given
+        given(todoRepository.findSearchDocumentsAfter(eq(0L), any())).willReturn(List.of());
+        given(todoRepository.findSearchDocumentsModifiedAfter(any(), eq(0L), any()))
+                .willReturn(List.of(new TodoSearchDocument(7L, "other server", "todo", MODIFIED_AT)));
+        todoSearchIndex.build();
+
+        // when
+        todoSearchIndex.catchUp();
+
+        // then
+        assertEquals(List.of(7L), todoSearchIndex.search(List.of("server"), 0, 10).ids());
+    }
+}
@@ -1,12 +1,20 @@
 package org.example.expert.domain.todo.service;
 
-import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.dto.VersionStamp;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.support.AuthUserFixture;
@@ -18,18 +26,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
@@ -38,7 +52,13 @@ class TodoServiceTest {
     private TodoRepository todoRepository;
 
     @Mock
-    private WeatherClient weatherClient;
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @Mock
+    private TodoCountCache todoCountCache;
+
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
 
     @InjectMocks
     private TodoService todoService;
@@ -62,7 +82,7 @@ class TodoServiceTest {
         );
         ReflectionTestUtils.setField(todo, "id", 1L);
 
-        given(weatherClient.getTodayWeather()).willReturn(weather);
+        given(todoWeatherEnricher.weatherForNewTodo()).willReturn(weather);
         given(todoRepository.save(any(Todo.class))).willReturn(todo);
 
         // when
@@ -78,6 +98,57 @@ class TodoServiceTest {
         assertEquals(user.getEmail(), response.getUser().getEmail());
     }
 
+    @Test
+    @DisplayName("날씨를 아직 알 수 없으면 날씨 없이 저장하고 커밋 후 보강 예약")
+    void saveTodo_ShouldScheduleEnrichment_WhenWeatherPending() {
+        // given
+        AuthUser authUser = AuthUserFixture.createAuthUser();
+        TodoSaveRequest request = new TodoSaveRequest("testTitle", "testContents");
+
+        Todo todo = new Todo(request.getTitle(), request.getContents(), null, User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "id", 1L);
+
+        given(todoWeatherEnricher.weatherForNewTodo()).willReturn(null);
+        given(todoRepository.save(any(Todo.class))).willReturn(todo);
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, request);
+
+        // then
+        assertNull(response.getWeather());
+        verify(todoWeatherEnricher).enrichAfterCommit(1L, todo.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("여러 할 일을 날씨 한 번 조회로 saveAll 저장하고 개수 캐시는 한 번에 증가")
+    void saveTodos_ShouldSaveAllWithSingleWeatherLookup() {
+        // given
+        AuthUser authUser = AuthUserFixture.createAuthUser();
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("title2", "contents2")
+        ));
+        given(todoWeatherEnricher.weatherForNewTodo()).willReturn("Sunny");
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            for (int i = 0; i < todos.size(); i++) {
+                ReflectionTestUtils.setField(todos.get(i), "id", i + 1L);
+            }
+            return todos;
+        });
+
+        // when
+        TodoBatchSaveResponse response = todoService.saveTodos(authUser, request);
+
+        // then
+        assertEquals(2, response.getCreatedCount());
+        assertEquals(List.of(1L, 2L), response.getTodos().stream().map(TodoSaveResponse::getId).toList());
+        assertEquals("Sunny", response.getTodos().get(1).getWeather());
+        verify(todoWeatherEnricher).weatherForNewTodo();
+        verify(todoCountCache).incrementAfterCommit(2L);
+        verify(todoSearchIndex).indexAfterCommit(2L, "title2", "contents2");
+    }
+
     @Test
     @DisplayName("할 일 목록 조회 성공")
     void getTodos_ShouldReturnTodoPage() {
@@ -91,12 +162,10 @@ class TodoServiceTest {
         ReflectionTestUtils.setField(user, "id", 1L);
 
         Pageable pageable = PageRequest.of(page - 1, size);
-        Page<Todo> todoPage = new PageImpl<>(List.of(todo), pageable, 1);
-
-        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todoPage);
+        given(todoRepository.findTodoResponses(pageable)).willReturn(List.of(toResponse(todo)));
 
         // when
-        Page<TodoResponse> responses = todoService.getTodos(page, size);
+        Page<TodoResponse> responses = todoService.getTodos(page, size, TodoFilter.empty(), 1L);
 
         // then
         assertNotNull(responses);
@@ -108,13 +177,180 @@ class TodoServiceTest {
         assertEquals(todo.getWeather(), response.getWeather());
     }
 
+    @Test
+    @DisplayName("필터 조건이 있으면 조건을 넘겨 필터 쿼리로 조회하고 전체 개수는 검증자의 개수를 사용")
+    void getTodos_ShouldUseFilterQuery_WhenFilterPresent() {
+        // given
+        TodoFilter filter = new TodoFilter("Sunny", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), 1L);
+        Pageable pageable = PageRequest.of(0, 10);
+        List<TodoResponse> todos = List.of(createTodoResponse(1L, LocalDateTime.of(2024, 1, 15, 10, 0)));
+        given(todoRepository.findTodoResponses(filter, pageable)).willReturn(todos);
+
+        // when
+        Page<TodoResponse> responses = todoService.getTodos(1, 10, filter, 21L);
+
+        // then
+        assertEquals(todos, responses.getContent());
+        assertEquals(21L, responses.getTotalElements());
+        assertEquals(3, responses.getTotalPages());
+        assertEquals(LocalDateTime.of(2024, 2, 1, 0, 0), filter.getModifiedAtBefore());
+        verify(todoRepository, never()).findTodoResponses(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("수정일 시작이 끝보다 늦으면 InvalidRequestException")
+    void todoFilter_ShouldThrow_WhenRangeReversed() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> new TodoFilter(null, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), null));
+
+        // then
+        assertEquals("modifiedFrom 은 modifiedTo 보다 늦을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("count=none 이면 count 쿼리 없이 Slice 로 조회하고 전체 개수는 null")
+    void getTodoSlice_ShouldNotCount_WhenCountModeNone() {
+        // given
+        TodoResponse todo = createTodoResponse(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+        Pageable pageable = PageRequest.of(0, 10);
+        given(todoRepository.findTodoResponseSlice(pageable))
+                .willReturn(new SliceImpl<>(List.of(todo), pageable, true));
+
+        // when
+        TodoSliceResponse response = todoService.getTodoSlice(1, 10, TodoCountMode.NONE, TodoFilter.empty());
+
+        // then
+        assertTrue(response.isHasNext());
+        assertNull(response.getTotalElements());
+        assertEquals(1, response.getContent().size());
+        verify(todoCountCache, never()).getTotal();
+        verify(todoRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("count=cached 면 캐시된 전체 개수를 함께 반환")
+    void getTodoSlice_ShouldReturnCachedTotal_WhenCountModeCached() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        given(todoRepository.findTodoResponseSlice(pageable))
+                .willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(todoCountCache.getTotal()).willReturn(42L);
+
+        // when
+        TodoSliceResponse response = todoService.getTodoSlice(1, 10, TodoCountMode.CACHED, TodoFilter.empty());
+
+        // then
+        assertFalse(response.isHasNext());
+        assertEquals(42L, response.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("count=none 에 필터가 있으면 필터 조건으로 Slice 조회")
+    void getTodoSlice_ShouldApplyFilter() {
+        // given
+        TodoFilter filter = new TodoFilter("Sunny", null, null, 1L);
+        Pageable pageable = PageRequest.of(0, 10);
+        given(todoRepository.findTodoResponseSlice(filter, pageable))
+                .willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // when
+        TodoSliceResponse response = todoService.getTodoSlice(1, 10, TodoCountMode.NONE, filter);
+
+        // then
+        assertFalse(response.isHasNext());
+        verify(todoRepository, never()).findTodoResponseSlice(pageable);
+    }
+
+    @Test
+    @DisplayName("count=cached 와 필터를 함께 쓰면 예외")
+    void getTodoSlice_ShouldThrow_WhenCachedCountWithFilter() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.getTodoSlice(1, 10, TodoCountMode.CACHED, new TodoFilter("Sunny", null, null, null)));
+
+        // then
+        assertEquals("count=cached 는 필터와 함께 사용할 수 없습니다.", exception.getMessage());
+        verify(todoCountCache, never()).getTotal();
+    }
+
+    @Test
+    @DisplayName("커서와 필터가 함께 있으면 필터 조건에 seek 조건을 더해 조회")
+    void getTodosByCursor_ShouldApplyFilter() {
+        // given
+        TodoFilter filter = new TodoFilter(null, LocalDate.of(2024, 1, 1), null, null);
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        String cursor = new TodoCursor(modifiedAt, 2L).encode();
+        TodoResponse last = createTodoResponse(1L, modifiedAt.minusSeconds(1));
+        given(todoRepository.findTodoResponsesByCursor(filter, modifiedAt, 2L, 3)).willReturn(List.of(last));
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor(cursor, 2, filter);
+
+        // then
+        assertFalse(response.isHasNext());
+        assertEquals(List.of(1L), response.getContent().stream().map(TodoResponse::getId).toList());
+    }
+
+    @Test
+    @DisplayName("커서 첫 페이지는 size + 1 건을 조회해 다음 커서를 만듦")
+    void getTodosByCursor_ShouldReturnNextCursor_WhenMoreRows() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_456_000);
+        TodoResponse first = createTodoResponse(3L, modifiedAt);
+        TodoResponse second = createTodoResponse(2L, modifiedAt);
+        TodoResponse third = createTodoResponse(1L, modifiedAt.minusSeconds(1));
+
+        given(todoRepository.findFirstTodoResponsesByCursor(PageRequest.of(0, 3))).willReturn(List.of(first, second, third));
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor("", 2, TodoFilter.empty());
+
+        // then
+        assertTrue(response.isHasNext());
+        assertEquals(List.of(3L, 2L), response.getContent().stream().map(TodoResponse::getId).toList());
+        TodoCursor cursor = TodoCursor.decode(response.getNextCursor());
+        assertEquals(modifiedAt, cursor.getModifiedAt());
+        assertEquals(2L, cursor.getId());
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 seek 조건으로 다음 페이지를 조회하고 마지막 페이지면 커서 없음")
+    void getTodosByCursor_ShouldSeekFromCursor() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        String cursor = new TodoCursor(modifiedAt, 2L).encode();
+        TodoResponse last = createTodoResponse(1L, modifiedAt.minusSeconds(1));
+
+        given(todoRepository.findNextTodoResponsesByCursor(modifiedAt, 2L, PageRequest.of(0, 3))).willReturn(List.of(last));
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor(cursor, 2, TodoFilter.empty());
+
+        // then
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+        assertEquals(1, response.getContent().size());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서면 예외")
+    void getTodosByCursor_ShouldThrow_WhenCursorInvalid() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.getTodosByCursor("not-a-cursor", 10, TodoFilter.empty()));
+
+        // then
+        assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+    }
+
     @Test
     @DisplayName("할 일 단건 조회 실패 - Todo를 찾을 수 없음")
     void getTodo_ShouldThrowException_WhenTodoNotFound() {
         // given
         long todoId = 1L;
 
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.empty());
+        given(todoRepository.findTodoResponseById(anyLong())).willReturn(Optional.empty());
 
         // when
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
@@ -135,7 +371,7 @@ class TodoServiceTest {
         ReflectionTestUtils.setField(todo, "id", todoId);
         ReflectionTestUtils.setField(todo.getUser(), "id", 1L);
 
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findTodoResponseById(anyLong())).willReturn(Optional.of(toResponse(todo)));
 
         // when
         TodoResponse response = todoService.getTodo(todoId);
@@ -149,4 +385,62 @@ class TodoServiceTest {
         assertEquals(todo.getUser().getId(), response.getUser().getId());
         assertEquals(todo.getUser().getEmail(), response.getUser().getEmail());
     }
+
+    @Test
+    @DisplayName("검색 결과를 색인의 순위대로 정렬해 반환")
+    void searchTodos_ShouldKeepIndexRanking() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(todoSearchIndex.isReady()).willReturn(true);
+        given(todoSearchIndex.search(any(), anyInt(), anyInt()))
+                .willReturn(new TodoSearchIndex.SearchHits(List.of(2L, 1L), 2));
+        given(todoRepository.findTodoResponsesByIdIn(List.of(2L, 1L)))
+                .willReturn(List.of(createTodoResponse(1L, now), createTodoResponse(2L, now)));
+
+        // when
+        Page<TodoResponse> result = todoService.searchTodos("Test Title", 1, 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(TodoResponse::getId).toList());
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("검색어에 단어가 없으면 InvalidRequestException")
+    void searchTodos_ShouldThrow_WhenQueryBlank() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.searchTodos(" ,. ", 1, 10));
+
+        // then
+        assertEquals("검색어를 입력해주세요.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("날씨 보강 대기 중인 할 일은 ETag 만 쓰고 Last-Modified 는 쓰지 않음")
+    void getTodoVersion_ShouldSkipLastModified_WhenWeatherPending() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        given(todoRepository.findVersionById(1L)).willReturn(new VersionStamp(1L, modifiedAt, 1L));
+        given(todoRepository.findVersionById(2L)).willReturn(new VersionStamp(0L, null, null));
+
+        // when
+        ResourceVersion pending = todoService.getTodoVersion(1L);
+        ResourceVersion missing = todoService.getTodoVersion(2L);
+
+        // then
+        assertNotNull(pending.getEtag());
+        assertEquals(-1, pending.getLastModified());
+        assertSame(ResourceVersion.NONE, missing);
+    }
+
+    private TodoResponse createTodoResponse(Long id, LocalDateTime modifiedAt) {
+        return new TodoResponse(id, "testTitle", "testContents", "testWeather", 1L, "testEmail", modifiedAt, modifiedAt);
+    }
+
+    private TodoResponse toResponse(Todo todo) {
+        User user = todo.getUser();
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+                user.getId(), user.getEmail(), todo.getCreatedAt(), todo.getModifiedAt());
+    }
 }
@@ -0,0 +1,135 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.TodoWeatherPendingDto;
+import org.example.expert.domain.todo.enums.WeatherEnrichmentMode;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class TodoWeatherEnricherTest {
+
+    private TodoRepository todoRepository;
+    private WeatherClient weatherClient;
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        weatherClient = mock(WeatherClient.class);
+        todoWeatherEnricher = createEnricher(WeatherEnrichmentMode.ASYNC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoWeatherEnricher.shutdown();
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드에서 오늘 날씨가 없으면 null 을 반환해 먼저 저장")
+    void weatherForNewTodo_ShouldReturnNull_WhenAsyncAndWeatherMissing() {
+        // given
+        given(weatherClient.findTodayWeather()).willReturn(Optional.empty());
+
+        // when & then
+        assertNull(todoWeatherEnricher.weatherForNewTodo());
+    }
+
+    @Test
+    @DisplayName("INLINE 모드에서 오늘 날씨가 없으면 예외")
+    void weatherForNewTodo_ShouldThrow_WhenInlineAndWeatherMissing() {
+        // given
+        TodoWeatherEnricher inlineEnricher = createEnricher(WeatherEnrichmentMode.INLINE);
+        given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when & then
+        assertThrows(ServerException.class, inlineEnricher::weatherForNewTodo);
+        inlineEnricher.shutdown();
+    }
+
+    @Test
+    @DisplayName("backfill 은 생성일 기준 날씨로 비어 있는 행만 채움")
+    void backfill_ShouldFillWeatherByCreatedDate() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+        given(todoRepository.findWeatherPendingAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(new TodoWeatherPendingDto(1L, createdAt), new TodoWeatherPendingDto(2L, createdAt)));
+        given(weatherClient.findWeather(MonthDay.of(3, 1))).willReturn(Optional.of("Rainy"));
+        given(todoRepository.updateWeatherIfMissing(any(), any())).willReturn(1);
+
+        // when
+        todoWeatherEnricher.backfill();
+
+        // then
+        verify(todoRepository).updateWeatherIfMissing(1L, "Rainy");
+        verify(todoRepository).updateWeatherIfMissing(2L, "Rainy");
+    }
+
+    @Test
+    @DisplayName("backfill 은 채울 수 없는 행이 한 페이지를 채워도 다음 페이지의 행까지 처리")
+    void backfill_ShouldPagePastUnresolvableRows() {
+        // given (3월 2일은 날씨 테이블에 없는 날짜)
+        LocalDateTime unresolvable = LocalDateTime.of(2024, 3, 2, 10, 0);
+        LocalDateTime resolvable = LocalDateTime.of(2024, 3, 1, 10, 0);
+        List<TodoWeatherPendingDto> firstPage = LongStream.rangeClosed(1, 100)
+                .mapToObj(id -> new TodoWeatherPendingDto(id, unresolvable))
+                .toList();
+        given(todoRepository.findWeatherPendingAfter(eq(0L), any(Pageable.class))).willReturn(firstPage);
+        given(todoRepository.findWeatherPendingAfter(eq(100L), any(Pageable.class)))
+                .willReturn(List.of(new TodoWeatherPendingDto(101L, resolvable)));
+        given(weatherClient.findWeather(MonthDay.of(3, 2))).willReturn(Optional.empty());
+        given(weatherClient.findWeather(MonthDay.of(3, 1))).willReturn(Optional.of("Rainy"));
+        given(todoRepository.updateWeatherIfMissing(any(), any())).willReturn(1);
+
+        // when
+        todoWeatherEnricher.backfill();
+
+        // then
+        verify(todoRepository).updateWeatherIfMissing(101L, "Rainy");
+        verify(todoRepository, times(1)).updateWeatherIfMissing(any(), any());
+    }
+
+    @Test
+    @DisplayName("날씨 데이터가 아직 없으면 보강하지 않고 다음 backfill 로 미룸")
+    void enrich_ShouldSkip_WhenWeatherUnavailable() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 0);
+        given(weatherClient.findWeather(MonthDay.of(3, 1))).willReturn(Optional.empty());
+
+        // when
+        boolean enriched = todoWeatherEnricher.enrich(1L, createdAt);
+
+        // then
+        assertFalse(enriched);
+        verify(todoRepository, never()).updateWeatherIfMissing(any(), any());
+    }
+
+    private TodoWeatherEnricher createEnricher(WeatherEnrichmentMode mode) {
+        return new TodoWeatherEnricher(
+                todoRepository,
+                weatherClient,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mode,
+                1,
+                10
+        );
+    }
+}
@@ -1,11 +1,10 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.config.AuthEpochRegistry;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
-import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.example.expert.support.UserFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,11 +12,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class UserAdminServiceTest {
@@ -25,6 +24,9 @@ class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AuthEpochRegistry authEpochRegistry;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -33,16 +35,16 @@ class UserAdminServiceTest {
     void changeUserRole_ShouldChangeUserRole() {
         // given
         long userId = 1L;
-        User user = UserFixture.createUser();
         UserRoleChangeRequest request = new UserRoleChangeRequest("ADMIN");
 
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(userRepository.updateRoleAndIncrementAuthEpoch(eq(userId), eq(UserRole.ADMIN), any())).willReturn(1);
+        given(userRepository.findAuthEpochById(userId)).willReturn(2);
 
         // when
         userAdminService.changeUserRole(userId, request);
 
-        // then
-        assertEquals(UserRole.ADMIN, user.getUserRole());
+        // then (DB 에서 원자적으로 올린 epoch 를 다시 읽어 반영)
+        verify(authEpochRegistry).updateAfterCommit(userId, 2);
     }
 
     @Test
@@ -52,7 +54,7 @@ class UserAdminServiceTest {
         long userId = 1L;
         UserRoleChangeRequest request = new UserRoleChangeRequest(UserRole.ADMIN.name());
 
-        given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(userRepository.updateRoleAndIncrementAuthEpoch(anyLong(), any(), any())).willReturn(0);
 
         // when
         InvalidRequestException exception = assertThrows(
@@ -62,5 +64,6 @@ class UserAdminServiceTest {
 
         // then
         assertEquals("User not found", exception.getMessage());
+        verify(authEpochRegistry, never()).updateAfterCommit(anyLong(), anyInt());
     }
 }
@@ -0,0 +1,115 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.validation.Validation;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.user.dto.request.UserBulkSignupRequest;
+import org.example.expert.domain.user.dto.response.UserBulkSignupResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.BulkSignupStatus;
+import org.example.expert.domain.user.repository.UserJdbcRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class UserBulkServiceTest {
+
+    private UserRepository userRepository;
+    private UserJdbcRepository userJdbcRepository;
+    private PasswordEncoder passwordEncoder;
+    private UserBulkService userBulkService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userJdbcRepository = mock(UserJdbcRepository.class);
+        passwordEncoder = new PasswordEncoder(4, 2, 16);
+        userBulkService = new UserBulkService(
+                userRepository,
+                userJdbcRepository,
+                passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("대량 가입 시 행마다 생성/중복/유효하지 않음 결과를 반환하고 생성 대상만 batch insert")
+    void bulkSignup_ShouldReturnPerRowResult() {
+        // given
+        UserBulkSignupRequest request = new UserBulkSignupRequest(List.of(
+                new SignupRequest("new@test.com", "Password1", "USER"),
+                new SignupRequest("exists@test.com", "Password1", "USER"),
+                new SignupRequest("new@test.com", "Password1", "ADMIN"),
+                new SignupRequest("bad@test.com", "short", "USER"),
+                new SignupRequest("role@test.com", "Password1", "OWNER")
+        ));
+        given(userRepository.findEmailsByEmailIn(anyCollection())).willReturn(List.of("exists@test.com"));
+
+        // when
+        UserBulkSignupResponse response = userBulkService.bulkSignup(request);
+
+        // then
+        assertEquals(1, response.getCreatedCount());
+        assertEquals(4, response.getFailedCount());
+        assertEquals(
+                List.of(BulkSignupStatus.CREATED, BulkSignupStatus.DUPLICATE, BulkSignupStatus.DUPLICATE,
+                        BulkSignupStatus.INVALID, BulkSignupStatus.INVALID),
+                response.getResults().stream().map(result -> result.getStatus()).toList()
+        );
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userJdbcRepository).batchInsert(captor.capture());
+        List<User> inserted = captor.getValue();
+        assertEquals(1, inserted.size());
+        assertEquals("new@test.com", inserted.get(0).getEmail());
+        assertTrue(passwordEncoder.matches("Password1", inserted.get(0).getPassword()));
+        verify(userRepository, times(1)).findEmailsByEmailIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("IN 확인 이후 다른 요청이 같은 이메일을 가입시키면 해당 chunk 를 한 행씩 저장하고 그 행만 중복 처리")
+    void bulkSignup_ShouldFallBackToRowInsert_WhenBatchHitsDuplicateKey() {
+        // given
+        UserBulkSignupRequest request = new UserBulkSignupRequest(List.of(
+                new SignupRequest("first@test.com", "Password1", "USER"),
+                new SignupRequest("raced@test.com", "Password1", "USER"),
+                new SignupRequest("third@test.com", "Password1", "USER")
+        ));
+        given(userRepository.findEmailsByEmailIn(anyCollection())).willReturn(List.of());
+        doThrow(new DuplicateKeyException("Duplicate entry")).when(userJdbcRepository).batchInsert(anyList());
+        doThrow(new DuplicateKeyException("Duplicate entry")).when(userJdbcRepository)
+                .insert(argThat(user -> user.getEmail().equals("raced@test.com")));
+
+        // when
+        UserBulkSignupResponse response = userBulkService.bulkSignup(request);
+
+        // then
+        assertEquals(2, response.getCreatedCount());
+        assertEquals(1, response.getFailedCount());
+        assertEquals(
+                List.of(BulkSignupStatus.CREATED, BulkSignupStatus.DUPLICATE, BulkSignupStatus.CREATED),
+                response.getResults().stream().map(result -> result.getStatus()).toList()
+        );
+        verify(userJdbcRepository, times(3)).insert(any(User.class));
+    }
+}
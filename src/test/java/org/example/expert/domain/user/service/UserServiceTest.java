@@ -1,6 +1,8 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.config.AuthEpochRegistry;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.RefreshTokenService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -10,16 +12,21 @@ import org.example.expert.support.UserFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
@@ -28,6 +35,14 @@ class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private AuthEpochRegistry authEpochRegistry;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
     @InjectMocks
     private UserService userService;
 
@@ -142,11 +157,71 @@ class UserServiceTest {
         given(passwordEncoder.matches(request.getNewPassword(), user.getPassword())).willReturn(false);
         given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
         given(passwordEncoder.encode(request.getNewPassword())).willReturn("encodedNewPassword");
+        given(userRepository.updatePasswordAndIncrementAuthEpoch(eq(userId), eq("encodedOldPassword"), eq("encodedNewPassword"), any()))
+                .willReturn(1);
+        given(userRepository.findAuthEpochById(userId)).willReturn(3);
+
+        // when
+        userService.changePassword(userId, request);
+
+        // then (DB 에서 올린 epoch 를 그대로 반영)
+        verify(authEpochRegistry).updateAfterCommit(userId, 3);
+        verify(refreshTokenService).revokeAll(userId);
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 - bcrypt 검증/해싱이 끝난 뒤에 트랜잭션을 시작")
+    void changePassword_ShouldHashBeforeTransaction() {
+        // given
+        long userId = 1L;
+        User user = UserFixture.createUser();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "password", "encodedOldPassword");
+
+        UserChangePasswordRequest request = new UserChangePasswordRequest("oldPassword", "newPassword");
+
+        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(request.getNewPassword(), "encodedOldPassword")).willReturn(false);
+        given(passwordEncoder.matches(request.getOldPassword(), "encodedOldPassword")).willReturn(true);
+        given(passwordEncoder.encode(request.getNewPassword())).willReturn("encodedNewPassword");
+        given(userRepository.updatePasswordAndIncrementAuthEpoch(eq(userId), eq("encodedOldPassword"), eq("encodedNewPassword"), any()))
+                .willReturn(1);
 
         // when
         userService.changePassword(userId, request);
 
-        // then (성공 시 핵심 필드만 검증)
-        assertEquals("encodedNewPassword", user.getPassword());
+        // then
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager, refreshTokenService);
+        inOrder.verify(passwordEncoder).encode(request.getNewPassword());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(refreshTokenService).revokeAll(userId);
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 실패 - 해싱하는 동안 다른 요청이 먼저 비밀번호를 변경")
+    void changePassword_ShouldThrow_WhenPasswordChangedConcurrently() {
+        // given
+        long userId = 1L;
+        User user = UserFixture.createUser();
+        ReflectionTestUtils.setField(user, "password", "encodedOldPassword");
+
+        UserChangePasswordRequest request = new UserChangePasswordRequest("oldPassword", "newPassword");
+
+        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(request.getNewPassword(), "encodedOldPassword")).willReturn(false);
+        given(passwordEncoder.matches(request.getOldPassword(), "encodedOldPassword")).willReturn(true);
+        given(passwordEncoder.encode(request.getNewPassword())).willReturn("encodedNewPassword");
+        given(userRepository.updatePasswordAndIncrementAuthEpoch(eq(userId), eq("encodedOldPassword"), eq("encodedNewPassword"), any()))
+                .willReturn(0);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                userService.changePassword(userId, request)
+        );
+
+        // then
+        assertEquals("비밀번호가 이미 변경되었습니다. 다시 시도해주세요.", exception.getMessage());
+        verify(authEpochRegistry, never()).updateAfterCommit(anyLong(), anyInt());
+        verify(refreshTokenService, never()).revokeAll(anyLong());
     }
-}
\ No newline at end of file
+}